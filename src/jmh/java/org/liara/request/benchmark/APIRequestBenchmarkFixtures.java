@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.benchmark;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequestValues;
+import org.liara.request.validator.APIRequestFieldValidation;
+import org.liara.request.validator.APIRequestFieldValidator;
+
+import java.util.*;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Requests shaped like filter-heavy activity queries, shared by all benchmarks.
+ *
+ * A request of a given size contains the pagination and ordering parameters "limit", "offset" and "orderBy" and
+ * filter parameters named "filter.group{g}.value{i}", spread over a fixed number of groups.
+ */
+final class APIRequestBenchmarkFixtures
+{
+  /**
+   * Number of filter groups of each request.
+   */
+  static final int GROUPS = 8;
+
+  /**
+   * A field validator that accept integers.
+   */
+  @NonNull
+  static final APIRequestFieldValidator INTEGER = (@NonNull final String field) -> (
+    APIRequestValues.isInteger(field) ? APIRequestFieldValidation.valid()
+                                      : APIRequestFieldValidation.invalid("The value must be an integer.")
+  );
+
+  private APIRequestBenchmarkFixtures () {
+  }
+
+  /**
+   * Return the name of a filter parameter.
+   *
+   * @param index Index of the filter parameter.
+   *
+   * @return The name of the filter parameter, relative to the "filter" child request.
+   */
+  static @NonNull String filterName (final int index) {
+    return "group" + (index % GROUPS) + ".value" + index;
+  }
+
+  /**
+   * Return the parameters of a request.
+   *
+   * @param size Total number of parameters of the request.
+   * @param invalidEvery Make one filter value out of this number invalid, or zero to keep all values valid.
+   *
+   * @return The parameters of a request of the given size.
+   */
+  static @NonNull Map<@NonNull String, @NonNull List<String>> parameters (final int size, final int invalidEvery) {
+    @NonNull final Map<@NonNull String, @NonNull List<String>> result = new HashMap<>();
+
+    result.put("limit", Collections.singletonList("50"));
+    result.put("offset", Collections.singletonList("100"));
+    result.put("orderBy", Arrays.asList("date:asc", "sensor:desc"));
+
+    for (int index = 0; index < size - 3; ++index) {
+      final boolean invalid = invalidEvery > 0 && index % invalidEvery == 0;
+      result.put("filter." + filterName(index), Collections.singletonList(invalid ? "x" + index : String.valueOf(index)));
+    }
+
+    return result;
+  }
+
+  /**
+   * Return the parameters of a request as a raw query string.
+   *
+   * @param parameters Parameters to encode.
+   *
+   * @return A query string with all the given parameters.
+   */
+  static @NonNull String queryString (@NonNull final Map<@NonNull String, @NonNull List<String>> parameters) {
+    @NonNull final StringJoiner result = new StringJoiner("&");
+
+    for (final Map.@NonNull Entry<@NonNull String, @NonNull List<String>> entry : parameters.entrySet()) {
+      for (@NonNull final String value : entry.getValue()) {
+        result.add(entry.getKey() + "=" + value.replace(":", "%3A"));
+      }
+    }
+
+    return result.toString();
+  }
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.benchmark;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+import org.liara.request.StaticAPIRequest;
+import org.liara.request.parser.APIRequestParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Parsing of requests with trees made of all, field, childRequest and map parsers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class APIRequestParserBenchmark
+{
+  @Param({"16", "128", "1024"})
+  public int size;
+
+  private APIRequest _request;
+
+  private APIRequestParser<List<Object>> _parser;
+
+  @Setup
+  public void setup () {
+    _request = new StaticAPIRequest(APIRequestBenchmarkFixtures.parameters(size, 0));
+
+    @NonNull final List<@NonNull APIRequestParser<Object>> groups = new ArrayList<>();
+
+    for (int group = 0; group < APIRequestBenchmarkFixtures.GROUPS; ++group) {
+      @NonNull final List<@NonNull APIRequestParser<List<Integer>>> fields = new ArrayList<>();
+
+      for (int index = group; index < size - 3; index += APIRequestBenchmarkFixtures.GROUPS) {
+        fields.add(APIRequestParser.field("value" + index, Integer::parseInt));
+      }
+
+      groups.add(APIRequestParser.childRequest("group" + group, APIRequestParser.all(fields)).map(x -> x));
+    }
+
+    _parser = APIRequestParser.all(
+      APIRequestParser.field("limit", Integer::parseInt).mapNonNull(values -> (Object) values.get(0)),
+      APIRequestParser.field("offset", Integer::parseInt).mapNonNull(values -> (Object) values.get(0)),
+      APIRequestParser.field("orderBy", String::trim).map(x -> x),
+      APIRequestParser.childRequest("filter", APIRequestParser.all(groups)).map(x -> x)
+    );
+  }
+
+  @Benchmark
+  public List<Object> parse () {
+    return _parser.parse(_request);
+  }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.benchmark;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+import org.liara.request.StaticAPIRequest;
+import org.liara.request.validator.APIRequestValidation;
+import org.liara.request.validator.APIRequestValidationMode;
+import org.liara.request.validator.APIRequestValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Validation of valid and invalid requests with trees made of all, field and childRequest validators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class APIRequestValidatorBenchmark
+{
+  @Param({"16", "128", "1024"})
+  public int size;
+
+  private APIRequest _valid;
+
+  private APIRequest _invalid;
+
+  private APIRequestValidator _validator;
+
+  private APIRequestValidator _plan;
+
+  @Setup
+  public void setup () {
+    _valid = new StaticAPIRequest(APIRequestBenchmarkFixtures.parameters(size, 0));
+    _invalid = new StaticAPIRequest(APIRequestBenchmarkFixtures.parameters(size, 4));
+
+    @NonNull final List<@NonNull APIRequestValidator> groups = new ArrayList<>();
+
+    for (int group = 0; group < APIRequestBenchmarkFixtures.GROUPS; ++group) {
+      @NonNull final List<@NonNull APIRequestValidator> fields = new ArrayList<>();
+
+      for (int index = group; index < size - 3; index += APIRequestBenchmarkFixtures.GROUPS) {
+        fields.add(APIRequestValidator.field("value" + index, APIRequestBenchmarkFixtures.INTEGER));
+      }
+
+      groups.add(APIRequestValidator.childRequest("group" + group, APIRequestValidator.all(fields)));
+    }
+
+    _validator = APIRequestValidator.all(
+      APIRequestValidator.field("limit", APIRequestBenchmarkFixtures.INTEGER),
+      APIRequestValidator.field("offset", APIRequestBenchmarkFixtures.INTEGER),
+      APIRequestValidator.childRequest("filter", APIRequestValidator.all(groups))
+    );
+
+    _plan = APIRequestValidator.compile(_validator);
+  }
+
+  @Benchmark
+  public APIRequestValidation validateValid () {
+    return _validator.validate(_valid);
+  }
+
+  @Benchmark
+  public APIRequestValidation validateInvalid () {
+    return _validator.validate(_invalid);
+  }
+
+  @Benchmark
+  public APIRequestValidation validateValidWithPlan () {
+    return _plan.validate(_valid);
+  }
+
+  @Benchmark
+  public APIRequestValidation validateInvalidWithPlan () {
+    return _plan.validate(_invalid);
+  }
+
+  @Benchmark
+  public APIRequestValidation validateInvalidFailFast () {
+    return _plan.validate(_invalid, APIRequestValidationMode.FAIL_FAST);
+  }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.benchmark;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+import org.liara.request.StaticAPIRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Construction of requests, parameter lookups, child request traversal and typed accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StaticAPIRequestBenchmark
+{
+  @Param({"16", "128", "1024"})
+  public int size;
+
+  private Map<@NonNull String, @NonNull List<String>> _parameters;
+
+  private String _queryString;
+
+  private StaticAPIRequest _request;
+
+  private String _hit;
+
+  @Setup
+  public void setup () {
+    _parameters = APIRequestBenchmarkFixtures.parameters(size, 0);
+    _queryString = APIRequestBenchmarkFixtures.queryString(_parameters);
+    _request = new StaticAPIRequest(_parameters);
+    _hit = "filter." + APIRequestBenchmarkFixtures.filterName((size - 3) / 2);
+  }
+
+  @Benchmark
+  public StaticAPIRequest constructFromMap () {
+    return new StaticAPIRequest(_parameters);
+  }
+
+  @Benchmark
+  public StaticAPIRequest constructFromQueryString () {
+    return StaticAPIRequest.fromQueryString(_queryString);
+  }
+
+  @Benchmark
+  public StaticAPIRequest copy () {
+    return new StaticAPIRequest(_request);
+  }
+
+  @Benchmark
+  public APIRequestParameter getParameterHit () {
+    return _request.getParameter(_hit);
+  }
+
+  @Benchmark
+  public APIRequestParameter getParameterMiss () {
+    return _request.getParameter("filter.missing");
+  }
+
+  /**
+   * Traverse the child requests of a request built in the same invocation, so that no child request is cached yet.
+   * The cost of the construction alone is measured by {@link #constructFromMap()}.
+   */
+  @Benchmark
+  public void traverseChildRequestsCold (@NonNull final Blackhole blackhole) {
+    traverseChildRequests(new StaticAPIRequest(_parameters), blackhole);
+  }
+
+  /**
+   * Traverse the child requests of a shared request, so that all child requests are cached after the first call.
+   */
+  @Benchmark
+  public void traverseChildRequestsCached (@NonNull final Blackhole blackhole) {
+    traverseChildRequests(_request, blackhole);
+  }
+
+  private static void traverseChildRequests (@NonNull final APIRequest request, @NonNull final Blackhole blackhole) {
+    @NonNull final APIRequest filter = request.getRequest("filter");
+    blackhole.consume(filter.getSize());
+
+    for (int group = 0; group < APIRequestBenchmarkFixtures.GROUPS; ++group) {
+      @NonNull final APIRequest child = filter.getRequest("group" + group);
+      blackhole.consume(child.getSize());
+
+      for (@NonNull final APIRequestParameter parameter : child) {
+        blackhole.consume(parameter);
+      }
+    }
+  }
+
+  @Benchmark
+  public void getBoxedValues (@NonNull final Blackhole blackhole) {
+    blackhole.consume(_request.getParameter("limit").getAsInteger(0));
+    blackhole.consume(_request.getParameter("offset").getAsLong(0));
+    blackhole.consume(_request.getParameter(_hit).getAsDouble(0));
+  }
+
+  @Benchmark
+  public void getPrimitiveValues (@NonNull final Blackhole blackhole) {
+    blackhole.consume(_request.getParameter("limit").getAsInteger(0, -1));
+    blackhole.consume(_request.getParameter("offset").getAsLong(0, -1L));
+    blackhole.consume(_request.getParameter(_hit).getAsDouble(0, Double.NaN));
+  }
+}
@@ -2,18 +2,67 @@ package org.liara.request;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 public interface APIRequest
   extends Iterable<@NonNull APIRequestParameter>
 {
   boolean contains (@NonNull final String name);
 
+  /**
+   * Check if a parameter, whose name is the concatenation of a prefix and a name, is registered in this request.
+   *
+   * Child requests call this method in order to resolve their parameters against their parent. Implementations that
+   * maintain an index of their parameter names should override it in order to not concatenate both strings.
+   *
+   * @param prefix The prefix of the name of the parameter.
+   * @param name The end of the name of the parameter.
+   *
+   * @return True if the parameter named prefix + name exists in this request.
+   */
+  default boolean contains (@NonNull final String prefix, @NonNull final String name) {
+    return contains(prefix + name);
+  }
+
   int getSize ();
 
   @NonNull APIRequestParameter getParameter (@NonNull final String name);
 
+  /**
+   * Return a parameter whose name is the concatenation of a prefix and a name.
+   *
+   * Child requests call this method in order to resolve their parameters against their parent. Implementations that
+   * maintain an index of their parameter names should override it in order to not concatenate both strings.
+   *
+   * @param prefix The prefix of the name of the parameter.
+   * @param name The end of the name of the parameter.
+   *
+   * @return The parameter named prefix + name.
+   */
+  default @NonNull APIRequestParameter getParameter (@NonNull final String prefix, @NonNull final String name) {
+    return getParameter(prefix + name);
+  }
+
   @NonNull Set<@NonNull APIRequestParameter> getParameters ();
 
+  /**
+   * Return all parameters of this request with a name that starts with the given prefix.
+   *
+   * Implementations that maintain an index of their parameter names should override this method in order to answer
+   * in a time proportional to the number of matching parameters instead of the size of the whole request.
+   *
+   * @param prefix A prefix to use for the extraction.
+   *
+   * @return All parameters of this request with a name that starts with the given prefix.
+   */
+  default @NonNull Collection<@NonNull APIRequestParameter> getParametersWithPrefix (@NonNull final String prefix) {
+    return StreamSupport.stream(spliterator(), false).filter(
+      parameter -> parameter.getName().startsWith(prefix)
+    ).collect(Collectors.toList());
+  }
+
   @NonNull APIRequest getRequest (@NonNull final String prefix);
 }
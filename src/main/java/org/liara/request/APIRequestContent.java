@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+
+/**
+ * Content based equality and hashing of requests, whatever their implementation.
+ *
+ * Two requests are equal when they contain the same parameter names with the same values in the same order. The hash
+ * of a request is the sum of the hashes of its parameters, so it does not depend on the iteration order of the
+ * request.
+ *
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ */
+public final class APIRequestContent
+{
+  private APIRequestContent () {
+  }
+
+  /**
+   * Return the content hash of a request.
+   *
+   * @param request A request to hash.
+   *
+   * @return The content hash of the given request.
+   */
+  public static int hashCode (@NonNull final APIRequest request) {
+    final int offset = getNameOffset(request);
+    int result = 0;
+
+    for (@NonNull final APIRequestParameter parameter : request) {
+      result += hashCode(parameter, offset);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return the content hash of a parameter, made of the end of its name and its values.
+   *
+   * @param parameter A parameter to hash.
+   * @param offset Number of characters of the name of the parameter to ignore.
+   *
+   * @return The content hash of the given parameter.
+   */
+  private static int hashCode (@NonNull final APIRequestParameter parameter, final int offset) {
+    @NonNull final String name = parameter.getName();
+    int result = 0;
+
+    for (int index = offset; index < name.length(); ++index) {
+      result = 31 * result + name.charAt(index);
+    }
+
+    for (@NonNull final String value : parameter) {
+      result = 31 * result + value.hashCode();
+    }
+
+    return result;
+  }
+
+  /**
+   * Check if a request has the same content as another object.
+   *
+   * @param request A request to compare.
+   * @param other An object to compare.
+   *
+   * @return True if the given object is a request with the same parameters and values.
+   */
+  public static boolean equals (@NonNull final APIRequest request, @Nullable final Object other) {
+    if (other == request) return true;
+    if (!(other instanceof APIRequest)) return false;
+
+    @NonNull final APIRequest otherRequest = (APIRequest) other;
+
+    if (request.getSize() != otherRequest.getSize()) return false;
+
+    final int offset = getNameOffset(request);
+
+    for (@NonNull final APIRequestParameter parameter : request) {
+      @NonNull final String name = parameter.getName().substring(offset);
+      if (!otherRequest.contains(name)) return false;
+      if (!equals(parameter, otherRequest.getParameter(name))) return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Return the number of characters to remove from the name of the parameters of a request in order to get their name
+   * relative to the request, child requests exposing parameters with their full name.
+   *
+   * @param request A request.
+   *
+   * @return The length of the prefix of the names of the parameters of the given request.
+   */
+  private static int getNameOffset (@NonNull final APIRequest request) {
+    return request instanceof ChildAPIRequest ? ((ChildAPIRequest) request).getPrefix().length() : 0;
+  }
+
+  /**
+   * Return an immutable request with the same content as the given one, in order to use it as a key that outlives
+   * the given request.
+   *
+   * @param request A request to copy.
+   *
+   * @return The given request if it is already immutable, an immutable copy of it otherwise.
+   */
+  public static @NonNull APIRequest toImmutable (@NonNull final APIRequest request) {
+    if (request instanceof StaticAPIRequest || request instanceof PersistentAPIRequest) return request;
+    return PersistentAPIRequest.of(request);
+  }
+
+  private static boolean equals (@NonNull final APIRequestParameter left, @NonNull final APIRequestParameter right) {
+    if (left.getSize() != right.getSize()) return false;
+
+    @NonNull final Iterator<@NonNull String> leftValues = left.iterator();
+    @NonNull final Iterator<@NonNull String> rightValues = right.iterator();
+
+    while (leftValues.hasNext()) {
+      if (!leftValues.next().equals(rightValues.next())) return false;
+    }
+
+    return true;
+  }
+}
@@ -25,8 +25,12 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 /**
  * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
@@ -92,12 +96,125 @@ public interface APIRequestParameter extends Iterable<@NonNull String>
   default Optional<Boolean> getAsBoolean (final int index) {
     @NonNull final Optional<String> result = get(index);
 
-    if (result.isPresent()) {
-      @NonNull final String content = result.get().toLowerCase().trim();
-      return Optional.of(content.equals("") || content.equals("true") || content.equals("1"));
-    } else {
-      return Optional.empty();
-    }
+    return (result.isPresent()) ? Optional.of(APIRequestValues.parseBoolean(result.get())) : Optional.empty();
+  }
+
+  /**
+   * Return the characters of a value of this parameter without any copy.
+   *
+   * @param index Index of the value to return.
+   *
+   * @return The characters of the value defined at the given index of this parameter, or null if there is no such value.
+   */
+  default @Nullable CharSequence getCharacters (final int index) {
+    return get(index).orElse(null);
+  }
+
+  /**
+   * Return a value of this parameter as an integer, without throwing and without boxing.
+   *
+   * @param index Index of the value to return.
+   * @param defaultValue A value to return if the requested value does not exist or is not a valid integer.
+   *
+   * @return The value defined at the given index of this parameter as an integer, or the given default value.
+   */
+  default int getAsInteger (final int index, final int defaultValue) {
+    @Nullable final CharSequence value = getCharacters(index);
+    return value == null ? defaultValue : APIRequestValues.parseInteger(value, defaultValue);
+  }
+
+  /**
+   * Return a value of this parameter as a long, without throwing and without boxing.
+   *
+   * @param index Index of the value to return.
+   * @param defaultValue A value to return if the requested value does not exist or is not a valid long.
+   *
+   * @return The value defined at the given index of this parameter as a long, or the given default value.
+   */
+  default long getAsLong (final int index, final long defaultValue) {
+    @Nullable final CharSequence value = getCharacters(index);
+    return value == null ? defaultValue : APIRequestValues.parseLong(value, defaultValue);
+  }
+
+  /**
+   * Return a value of this parameter as a double, without throwing and without boxing.
+   *
+   * @param index Index of the value to return.
+   * @param defaultValue A value to return if the requested value does not exist or is not a valid double.
+   *
+   * @return The value defined at the given index of this parameter as a double, or the given default value.
+   */
+  default double getAsDouble (final int index, final double defaultValue) {
+    @Nullable final CharSequence value = getCharacters(index);
+    return value == null ? defaultValue : APIRequestValues.parseDouble(value, defaultValue);
+  }
+
+  /**
+   * Return a value of this parameter as a float, without throwing and without boxing.
+   *
+   * @param index Index of the value to return.
+   * @param defaultValue A value to return if the requested value does not exist or is not a valid float.
+   *
+   * @return The value defined at the given index of this parameter as a float, or the given default value.
+   */
+  default float getAsFloat (final int index, final float defaultValue) {
+    @Nullable final CharSequence value = getCharacters(index);
+    return value == null ? defaultValue : APIRequestValues.parseFloat(value, defaultValue);
+  }
+
+  /**
+   * Return a value of this parameter as a boolean, without boxing.
+   *
+   * @param index Index of the value to return.
+   * @param defaultValue A value to return if the requested value does not exist.
+   *
+   * @return The value defined at the given index of this parameter as a boolean, or the given default value.
+   */
+  default boolean getAsBoolean (final int index, final boolean defaultValue) {
+    @Nullable final CharSequence value = getCharacters(index);
+    return value == null ? defaultValue : APIRequestValues.parseBoolean(value);
+  }
+
+  /**
+   * Return a value of this parameter as an optional integer, without throwing.
+   *
+   * @param index Index of the value to return.
+   *
+   * @return The value defined at the given index of this parameter as an integer, or an empty optional if the value
+   *         does not exist or is not a valid integer.
+   */
+  default @NonNull OptionalInt getAsOptionalInteger (final int index) {
+    @Nullable final CharSequence value = getCharacters(index);
+
+    return value == null ? OptionalInt.empty() : APIRequestValues.parseOptionalInteger(value);
+  }
+
+  /**
+   * Return a value of this parameter as an optional long, without throwing.
+   *
+   * @param index Index of the value to return.
+   *
+   * @return The value defined at the given index of this parameter as a long, or an empty optional if the value does
+   *         not exist or is not a valid long.
+   */
+  default @NonNull OptionalLong getAsOptionalLong (final int index) {
+    @Nullable final CharSequence value = getCharacters(index);
+
+    return value == null ? OptionalLong.empty() : APIRequestValues.parseOptionalLong(value);
+  }
+
+  /**
+   * Return a value of this parameter as an optional double, without throwing.
+   *
+   * @param index Index of the value to return.
+   *
+   * @return The value defined at the given index of this parameter as a double, or an empty optional if the value does
+   *         not exist or is not a valid double.
+   */
+  default @NonNull OptionalDouble getAsOptionalDouble (final int index) {
+    @Nullable final CharSequence value = getCharacters(index);
+
+    return value == null ? OptionalDouble.empty() : APIRequestValues.parseOptionalDouble(value);
   }
 
   /**
@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable index of parameters sorted by name.
+ *
+ * Because all names that share a common prefix are contiguous in the index, prefix queries are answered with two binary
+ * searches instead of a scan of all parameters.
+ *
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ */
+public final class APIRequestParameterIndex
+{
+  @NonNull
+  private final APIRequestParameter[] _parameters;
+
+  @NonNull
+  private final List<@NonNull APIRequestParameter> _view;
+
+  /**
+   * Create a new index of the given parameters.
+   *
+   * @param parameters Parameters to index, with unique names.
+   */
+  public APIRequestParameterIndex (@NonNull final Iterable<@NonNull APIRequestParameter> parameters) {
+    @NonNull final List<@NonNull APIRequestParameter> sorted = new ArrayList<>();
+    parameters.forEach(sorted::add);
+    sorted.sort(Comparator.comparing(APIRequestParameter::getName));
+
+    _parameters = sorted.toArray(new APIRequestParameter[0]);
+    _view = Collections.unmodifiableList(Arrays.asList(_parameters));
+  }
+
+  /**
+   * Return the number of indexed parameters.
+   *
+   * @return The number of indexed parameters.
+   */
+  public @NonNegative int getSize () {
+    return _parameters.length;
+  }
+
+  /**
+   * Return the number of indexed parameters with a name that starts with the given prefix.
+   *
+   * @param prefix A prefix to search for.
+   *
+   * @return The number of indexed parameters with a name that starts with the given prefix.
+   */
+  public @NonNegative int getSize (@NonNull final String prefix) {
+    @NonNegative final int from = lowerBound(prefix);
+    return upperBound(prefix, from) - from;
+  }
+
+  /**
+   * Return all indexed parameters with a name that starts with the given prefix, sorted by name.
+   *
+   * @param prefix A prefix to search for.
+   *
+   * @return An unmodifiable view over all indexed parameters with a name that starts with the given prefix.
+   */
+  public @NonNull List<@NonNull APIRequestParameter> getParameters (@NonNull final String prefix) {
+    @NonNegative final int from = lowerBound(prefix);
+    return _view.subList(from, upperBound(prefix, from));
+  }
+
+  /**
+   * Return all indexed parameters sorted by name.
+   *
+   * @return An unmodifiable view over all indexed parameters sorted by name.
+   */
+  public @NonNull List<@NonNull APIRequestParameter> getParameters () {
+    return _view;
+  }
+
+  /**
+   * Return the parameter whose name is the concatenation of a prefix and a name, without concatenating them.
+   *
+   * @param prefix The prefix of the name of the parameter.
+   * @param name The end of the name of the parameter.
+   *
+   * @return The parameter named prefix + name, or null if it is not indexed.
+   */
+  public @Nullable APIRequestParameter find (@NonNull final String prefix, @NonNull final String name) {
+    int lower = 0;
+    int upper = _parameters.length - 1;
+
+    while (lower <= upper) {
+      final int middle = (lower + upper) >>> 1;
+      final int comparison = compare(_parameters[middle].getName(), prefix, name);
+
+      if (comparison < 0) {
+        lower = middle + 1;
+      } else if (comparison > 0) {
+        upper = middle - 1;
+      } else {
+        return _parameters[middle];
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Compare a name to the concatenation of a prefix and another name, in the natural order of strings.
+   *
+   * @param key A name to compare.
+   * @param prefix The prefix of the other name.
+   * @param name The end of the other name.
+   *
+   * @return A negative integer, zero or a positive integer if the key is lower than, equal to, or greater than
+   *         prefix + name.
+   */
+  static int compare (@NonNull final String key, @NonNull final String prefix, @NonNull final String name) {
+    final int prefixLength = prefix.length();
+    final int length = prefixLength + name.length();
+    final int common = Math.min(key.length(), length);
+
+    for (int index = 0; index < common; ++index) {
+      final char other = index < prefixLength ? prefix.charAt(index) : name.charAt(index - prefixLength);
+      final int difference = key.charAt(index) - other;
+      if (difference != 0) return difference;
+    }
+
+    return key.length() - length;
+  }
+
+  /**
+   * Return the index of the first parameter with a name greater than or equal to the given prefix.
+   *
+   * @param prefix A prefix to search for.
+   *
+   * @return The index of the first parameter with a name greater than or equal to the given prefix.
+   */
+  private @NonNegative int lowerBound (@NonNull final String prefix) {
+    int lower = 0;
+    int upper = _parameters.length;
+
+    while (lower < upper) {
+      final int middle = (lower + upper) >>> 1;
+
+      if (compareToPrefix(_parameters[middle].getName(), prefix) < 0) {
+        lower = middle + 1;
+      } else {
+        upper = middle;
+      }
+    }
+
+    return lower;
+  }
+
+  /**
+   * Return the index of the first parameter, after a given lower bound, with a name that is greater than the given
+   * prefix and that does not start with it.
+   *
+   * @param prefix A prefix to search for.
+   * @param from The lower bound of the search.
+   *
+   * @return The index of the first parameter that follows all parameters that start with the given prefix.
+   */
+  private @NonNegative int upperBound (@NonNull final String prefix, @NonNegative final int from) {
+    int lower = from;
+    int upper = _parameters.length;
+
+    while (lower < upper) {
+      final int middle = (lower + upper) >>> 1;
+
+      if (compareToPrefix(_parameters[middle].getName(), prefix) <= 0) {
+        lower = middle + 1;
+      } else {
+        upper = middle;
+      }
+    }
+
+    return lower;
+  }
+
+  /**
+   * Compare a name to a prefix, all names that start with the prefix being considered as equal to it.
+   *
+   * @param name A name to compare.
+   * @param prefix A prefix to compare.
+   *
+   * @return A negative integer, zero or a positive integer if the name is lower than, starts with, or is greater than
+   *         the given prefix.
+   */
+  private static int compareToPrefix (@NonNull final String name, @NonNull final String prefix) {
+    final int length = Math.min(name.length(), prefix.length());
+
+    for (int index = 0; index < length; ++index) {
+      final int difference = name.charAt(index) - prefix.charAt(index);
+      if (difference != 0) return difference;
+    }
+
+    return name.length() < prefix.length() ? -1 : 0;
+  }
+}
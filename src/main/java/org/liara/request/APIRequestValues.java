@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Conversions of raw parameter values to primitive types that never throw and never box.
+ *
+ * The accepted formats are the ones of Integer.parseInt, Long.parseLong, Double.parseDouble and Float.parseFloat,
+ * except for hexadecimal floating-point literals that are rejected.
+ *
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ */
+public final class APIRequestValues
+{
+  private APIRequestValues () {
+  }
+
+  /**
+   * Return true if the given value is a valid integer.
+   *
+   * @param value A value to check.
+   *
+   * @return True if the given value is a valid integer.
+   */
+  public static boolean isInteger (@NonNull final CharSequence value) {
+    return isIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Return true if the given value is a valid long.
+   *
+   * @param value A value to check.
+   *
+   * @return True if the given value is a valid long.
+   */
+  public static boolean isLong (@NonNull final CharSequence value) {
+    return isIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE);
+  }
+
+  /**
+   * Return true if the given value is a valid double or float.
+   *
+   * @param value A value to check.
+   *
+   * @return True if the given value is a valid double or float.
+   */
+  public static boolean isDecimal (@NonNull final CharSequence value) {
+    int from = 0;
+    int to = value.length();
+
+    while (from < to && value.charAt(from) <= ' ') ++from;
+    while (to > from && value.charAt(to - 1) <= ' ') --to;
+
+    if (from < to && (value.charAt(from) == '-' || value.charAt(from) == '+')) ++from;
+    if (from >= to) return false;
+
+    if (matches(value, from, to, "NaN") || matches(value, from, to, "Infinity")) return true;
+
+    final char suffix = value.charAt(to - 1);
+    if (suffix == 'd' || suffix == 'D' || suffix == 'f' || suffix == 'F') --to;
+
+    int digits = 0;
+
+    while (from < to && isDigit(value.charAt(from))) { ++from; ++digits; }
+
+    if (from < to && value.charAt(from) == '.') {
+      ++from;
+      while (from < to && isDigit(value.charAt(from))) { ++from; ++digits; }
+    }
+
+    if (digits == 0) return false;
+
+    if (from < to && (value.charAt(from) == 'e' || value.charAt(from) == 'E')) {
+      ++from;
+      if (from < to && (value.charAt(from) == '-' || value.charAt(from) == '+')) ++from;
+      if (from >= to) return false;
+      while (from < to && isDigit(value.charAt(from))) ++from;
+    }
+
+    return from == to;
+  }
+
+  /**
+   * Convert the given value to an integer.
+   *
+   * @param value A value to convert.
+   * @param defaultValue A value to return if the given value is not a valid integer.
+   *
+   * @return The converted value, or the given default value if the given value is not a valid integer.
+   */
+  public static int parseInteger (@NonNull final CharSequence value, final int defaultValue) {
+    return (int) parseIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue);
+  }
+
+  /**
+   * Convert the given value to a long.
+   *
+   * @param value A value to convert.
+   * @param defaultValue A value to return if the given value is not a valid long.
+   *
+   * @return The converted value, or the given default value if the given value is not a valid long.
+   */
+  public static long parseLong (@NonNull final CharSequence value, final long defaultValue) {
+    return parseIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+  }
+
+  /**
+   * Convert the given value to a double.
+   *
+   * @param value A value to convert.
+   * @param defaultValue A value to return if the given value is not a valid double.
+   *
+   * @return The converted value, or the given default value if the given value is not a valid double.
+   */
+  public static double parseDouble (@NonNull final CharSequence value, final double defaultValue) {
+    return isDecimal(value) ? Double.parseDouble(value.toString()) : defaultValue;
+  }
+
+  /**
+   * Convert the given value to a float.
+   *
+   * @param value A value to convert.
+   * @param defaultValue A value to return if the given value is not a valid float.
+   *
+   * @return The converted value, or the given default value if the given value is not a valid float.
+   */
+  public static float parseFloat (@NonNull final CharSequence value, final float defaultValue) {
+    return isDecimal(value) ? Float.parseFloat(value.toString()) : defaultValue;
+  }
+
+  /**
+   * Convert the given value to an integer in a single pass, without throwing.
+   *
+   * @param value A value to convert.
+   *
+   * @return The converted value, or an empty optional if the given value is not a valid integer.
+   */
+  public static @NonNull OptionalInt parseOptionalInteger (@NonNull final CharSequence value) {
+    final long result = parseIntegral(value, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE);
+    return result == Long.MIN_VALUE ? OptionalInt.empty() : OptionalInt.of((int) result);
+  }
+
+  /**
+   * Convert the given value to a long in a single pass, without throwing.
+   *
+   * @param value A value to convert.
+   *
+   * @return The converted value, or an empty optional if the given value is not a valid long.
+   */
+  public static @NonNull OptionalLong parseOptionalLong (@NonNull final CharSequence value) {
+    final long result = parseIntegral(value, Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE);
+
+    if (result == Long.MIN_VALUE && !isLong(value)) {
+      return OptionalLong.empty();
+    } else {
+      return OptionalLong.of(result);
+    }
+  }
+
+  /**
+   * Convert the given value to a double, without throwing.
+   *
+   * The value is checked once before being converted by {@link Double#parseDouble(String)}, in order to never pay for
+   * an exception.
+   *
+   * @param value A value to convert.
+   *
+   * @return The converted value, or an empty optional if the given value is not a valid double.
+   */
+  public static @NonNull OptionalDouble parseOptionalDouble (@NonNull final CharSequence value) {
+    return isDecimal(value) ? OptionalDouble.of(Double.parseDouble(value.toString())) : OptionalDouble.empty();
+  }
+
+  /**
+   * Convert the given value to a boolean, an empty value, "true" or "1" being true regardless of the case and of any
+   * surrounding whitespace.
+   *
+   * @param value A value to convert.
+   *
+   * @return The converted value.
+   */
+  public static boolean parseBoolean (@NonNull final CharSequence value) {
+    int from = 0;
+    int to = value.length();
+
+    while (from < to && value.charAt(from) <= ' ') ++from;
+    while (to > from && value.charAt(to - 1) <= ' ') --to;
+
+    switch (to - from) {
+      case 0:
+        return true;
+      case 1:
+        return value.charAt(from) == '1';
+      case 4:
+        return Character.toLowerCase(value.charAt(from)) == 't' &&
+               Character.toLowerCase(value.charAt(from + 1)) == 'r' &&
+               Character.toLowerCase(value.charAt(from + 2)) == 'u' &&
+               Character.toLowerCase(value.charAt(from + 3)) == 'e';
+      default:
+        return false;
+    }
+  }
+
+  private static boolean isIntegral (
+    @NonNull final CharSequence value,
+    final long minimum,
+    final long maximum
+  ) {
+    final int length = value.length();
+    if (length == 0) return false;
+
+    final char first = value.charAt(0);
+    final boolean negative = first == '-';
+    int index = negative || first == '+' ? 1 : 0;
+    if (index >= length) return false;
+
+    final long limit = negative ? minimum : -maximum;
+    final long multiplicationLimit = limit / 10;
+    long result = 0;
+
+    for (; index < length; ++index) {
+      final int digit = Character.digit(value.charAt(index), 10);
+
+      if (digit < 0 || result < multiplicationLimit) return false;
+      result *= 10;
+      if (result < limit + digit) return false;
+      result -= digit;
+    }
+
+    return true;
+  }
+
+  private static long parseIntegral (
+    @NonNull final CharSequence value,
+    final long minimum,
+    final long maximum,
+    final long defaultValue
+  ) {
+    final int length = value.length();
+    if (length == 0) return defaultValue;
+
+    final char first = value.charAt(0);
+    final boolean negative = first == '-';
+    int index = negative || first == '+' ? 1 : 0;
+    if (index >= length) return defaultValue;
+
+    final long limit = negative ? minimum : -maximum;
+    final long multiplicationLimit = limit / 10;
+    long result = 0;
+
+    for (; index < length; ++index) {
+      final int digit = Character.digit(value.charAt(index), 10);
+
+      if (digit < 0 || result < multiplicationLimit) return defaultValue;
+      result *= 10;
+      if (result < limit + digit) return defaultValue;
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  private static boolean isDigit (final char character) {
+    return character >= '0' && character <= '9';
+  }
+
+  private static boolean matches (
+    @NonNull final CharSequence value,
+    final int from,
+    final int to,
+    @NonNull final String expected
+  ) {
+    if (to - from != expected.length()) return false;
+
+    for (int index = 0; index < expected.length(); ++index) {
+      if (value.charAt(from + index) != expected.charAt(index)) return false;
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request;
+
+import com.google.common.collect.Iterators;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A read-only parameter view over an array of values that is shared with its owner and never copied.
+ *
+ * Null values of the underlying array are exposed as empty strings, like in StaticAPIRequest.
+ *
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ */
+public class ArrayAPIRequestParameter implements APIRequestParameter
+{
+  @NonNull
+  private final APIRequest _request;
+
+  @NonNull
+  private final String _name;
+
+  @NonNull
+  private final String[] _values;
+
+  /**
+   * Create a new view over an array of values.
+   *
+   * @param request The parent request.
+   * @param name The name of the parameter.
+   * @param values Values of the parameter, the array must not be modified while the view is in use.
+   */
+  public ArrayAPIRequestParameter (
+    @NonNull final APIRequest request,
+    @NonNull final String name,
+    @NonNull final String[] values
+  ) {
+    _request = request;
+    _name = name;
+    _values = values;
+  }
+
+  /**
+   * @see Iterable#iterator()
+   */
+  @Override
+  public @NonNull Iterator<@NonNull String> iterator () {
+    return Iterators.transform(Iterators.forArray(_values), ArrayAPIRequestParameter::valueOf);
+  }
+
+  /**
+   * @see APIRequestParameter#getRequest()
+   */
+  @Override
+  public @NonNull APIRequest getRequest () {
+    return _request;
+  }
+
+  /**
+   * @see APIRequestParameter#getName()
+   */
+  @Override
+  public @NonNull String getName () {
+    return _name;
+  }
+
+  /**
+   * @see APIRequestParameter#getSize()
+   */
+  @Override
+  public @NonNegative int getSize () {
+    return _values.length;
+  }
+
+  /**
+   * @see APIRequestParameter#get(int)
+   */
+  @Override
+  public @NonNull Optional<String> get (final int index) {
+    if (index >= 0 && index < _values.length) {
+      return Optional.of(valueOf(_values[index]));
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @see APIRequestParameter#getCharacters(int)
+   */
+  @Override
+  public @Nullable CharSequence getCharacters (final int index) {
+    return index >= 0 && index < _values.length ? valueOf(_values[index]) : null;
+  }
+
+  /**
+   * @see APIRequestParameter#get()
+   */
+  @Override
+  public @NonNull String[] get () {
+    @NonNull final String[] result = new String[_values.length];
+
+    for (int index = 0; index < _values.length; ++index) {
+      result[index] = valueOf(_values[index]);
+    }
+
+    return result;
+  }
+
+  private static @NonNull String valueOf (@Nullable final String value) {
+    return value == null ? "" : value;
+  }
+
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof ArrayAPIRequestParameter) {
+      @NonNull final ArrayAPIRequestParameter otherParameter = (ArrayAPIRequestParameter) other;
+
+      return _request == otherParameter.getRequest() &&
+             Objects.equals(_name, otherParameter.getName());
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode () {
+    return Objects.hash(System.identityHashCode(_request), _name);
+  }
+}
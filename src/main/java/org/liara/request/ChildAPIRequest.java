@@ -3,11 +3,12 @@ package org.liara.request;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class ChildAPIRequest implements APIRequest
 {
@@ -17,6 +18,12 @@ public class ChildAPIRequest implements APIRequest
   @NonNull
   private final String _prefix;
 
+  /**
+   * Child requests already returned by this request, by prefix, allocated on the first call to getRequest.
+   */
+  @Nullable
+  private ConcurrentMap<@NonNull String, @NonNull APIRequest> _children;
+
   public ChildAPIRequest (@NonNull final String prefix, @NonNull final APIRequest parent) {
     _prefix = prefix + ".";
     _parent = parent;
@@ -30,38 +37,68 @@ public class ChildAPIRequest implements APIRequest
 
   @Override
   public boolean contains (final @NonNull String name) {
-    return _parent.contains(_prefix + name);
+    return _parent.contains(_prefix, name);
+  }
+
+  @Override
+  public boolean contains (@NonNull final String prefix, @NonNull final String name) {
+    return _parent.contains(_prefix + prefix, name);
   }
 
   @Override
   public int getSize () {
-    return (int) StreamSupport.stream(_parent.spliterator(), false).filter(
-      parameter -> parameter.getName().startsWith(_prefix)
-    ).count();
+    return _parent.getParametersWithPrefix(_prefix).size();
   }
 
   @Override
   public @NonNull APIRequestParameter getParameter (final @NonNull String name) {
-    return _parent.getParameter(_prefix + name);
+    return _parent.getParameter(_prefix, name);
+  }
+
+  @Override
+  public @NonNull APIRequestParameter getParameter (@NonNull final String prefix, @NonNull final String name) {
+    return _parent.getParameter(_prefix + prefix, name);
   }
 
   @Override
   public @NonNull Set<@NonNull APIRequestParameter> getParameters () {
-    return StreamSupport.stream(_parent.spliterator(), false).filter(
-      parameter -> parameter.getName().startsWith(_prefix)
-    ).collect(Collectors.toSet());
+    return new HashSet<>(_parent.getParametersWithPrefix(_prefix));
   }
 
+  @Override
+  public @NonNull Collection<@NonNull APIRequestParameter> getParametersWithPrefix (@NonNull final String prefix) {
+    return _parent.getParametersWithPrefix(_prefix + prefix);
+  }
+
+  /**
+   * Return a child request of this request, child requests are views over the root request and are kept for further
+   * calls with the same prefix.
+   *
+   * @param prefix A prefix to use for the extraction.
+   *
+   * @return A child request with all parameters of this request that share a common prefix.
+   */
   @Override
   public @NonNull APIRequest getRequest (final @NonNull String prefix) {
-    return new ChildAPIRequest(_prefix + prefix, _parent);
+    @Nullable ConcurrentMap<@NonNull String, @NonNull APIRequest> children = _children;
+
+    if (children == null) {
+      children = new ConcurrentHashMap<>();
+      _children = children;
+    }
+
+    @Nullable final APIRequest result = children.get(prefix);
+    if (result != null) return result;
+
+    @NonNull final APIRequest child = new ChildAPIRequest(_prefix + prefix, _parent);
+    @Nullable final APIRequest previous = children.putIfAbsent(prefix, child);
+
+    return previous == null ? child : previous;
   }
 
   @Override
   public Iterator<@NonNull APIRequestParameter> iterator () {
-    return StreamSupport.stream(_parent.spliterator(), false).filter(
-      parameter -> parameter.getName().startsWith(_prefix)
-    ).iterator();
+    return _parent.getParametersWithPrefix(_prefix).iterator();
   }
 
   public @NonNull APIRequest getParent () {
@@ -72,28 +109,23 @@ public class ChildAPIRequest implements APIRequest
     return _prefix;
   }
 
+  /**
+   * Check if another object is a request with the same parameters and values.
+   *
+   * @see APIRequestContent#equals(APIRequest, Object)
+   */
   @Override
   public boolean equals (@Nullable final Object other) {
-    if (other == null) return false;
-    if (other == this) return true;
-
-    if (other instanceof ChildAPIRequest) {
-      @NonNull final ChildAPIRequest otherChildAPIRequest = (ChildAPIRequest) other;
-
-      return Objects.equals(
-        _parent,
-        otherChildAPIRequest.getParent()
-      ) && Objects.equals(
-        _prefix,
-        otherChildAPIRequest.getPrefix()
-      );
-    }
-
-    return false;
+    return APIRequestContent.equals(this, other);
   }
 
+  /**
+   * Return the content hash of this request, computed on each call because the underlying parent request may change.
+   *
+   * @see APIRequestContent#hashCode(APIRequest)
+   */
   @Override
   public int hashCode () {
-    return Objects.hash(_parent, _prefix);
+    return APIRequestContent.hashCode(this);
   }
 }
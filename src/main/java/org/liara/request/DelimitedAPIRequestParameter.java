@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A read-only parameter view that split each value of another parameter with a delimiter, like "ids=1,2,3".
+ *
+ * Sub-values are exposed as slices over the original values and are never copied, unless they are requested as
+ * strings. The offsets of the sub-values are computed on first access and then cached, so the view should not be
+ * used if its underlying parameter may change.
+ *
+ * Sub-values are indexed in order across all values of the underlying parameter. A value is split as follows :
+ *
+ * - An empty value contains no sub-value, so that "ids=" or a bare "ids" is an empty list rather than a list with
+ *   one empty element.
+ * - Any other value with n delimiters contains exactly n + 1 sub-values. Empty sub-values are kept, like in "1,,2" or
+ *   ",5,", which respectively contain 3 sub-values "1", "" and "2", and "", "5" and "".
+ *
+ * For instance, the values "1,2", "" and ",5," of a parameter contain the 5 sub-values "1", "2", "", "5" and "",
+ * whose value indices are 0, 0, 2, 2 and 2.
+ */
+public class DelimitedAPIRequestParameter implements APIRequestParameter
+{
+  @NonNull
+  private final APIRequestParameter _parameter;
+
+  private final char _delimiter;
+
+  @Nullable
+  private volatile Offsets _offsets;
+
+  /**
+   * Create a new delimited view over a parameter.
+   *
+   * @param parameter The parameter to split.
+   * @param delimiter The delimiter of the sub-values of each value of the given parameter.
+   */
+  public DelimitedAPIRequestParameter (@NonNull final APIRequestParameter parameter, final char delimiter) {
+    _parameter = parameter;
+    _delimiter = delimiter;
+    _offsets = null;
+  }
+
+  /**
+   * Return the parameter split by this view.
+   *
+   * @return The parameter split by this view.
+   */
+  public @NonNull APIRequestParameter getParameter () {
+    return _parameter;
+  }
+
+  /**
+   * Return the delimiter of the sub-values of this view.
+   *
+   * @return The delimiter of the sub-values of this view.
+   */
+  public char getDelimiter () {
+    return _delimiter;
+  }
+
+  /**
+   * Return the index of the value of the underlying parameter that contains a given sub-value.
+   *
+   * @param index Index of a sub-value of this view.
+   *
+   * @return The index of the value of the underlying parameter that contains the given sub-value, or -1 if there is no
+   *         such sub-value.
+   */
+  public int getValueIndex (final int index) {
+    @NonNull final Offsets offsets = getOffsets();
+    return index >= 0 && index < offsets.size ? offsets.values[index] : -1;
+  }
+
+  /**
+   * @see Iterable#iterator()
+   */
+  @Override
+  public @NonNull Iterator<@NonNull String> iterator () {
+    return new Iterator<String>() {
+      private int _index = 0;
+
+      @Override
+      public boolean hasNext () {
+        return _index < getSize();
+      }
+
+      @Override
+      public @NonNull String next () {
+        if (!hasNext()) throw new NoSuchElementException();
+        return getCharacters(_index++).toString();
+      }
+    };
+  }
+
+  /**
+   * @see APIRequestParameter#getRequest()
+   */
+  @Override
+  public @NonNull APIRequest getRequest () {
+    return _parameter.getRequest();
+  }
+
+  /**
+   * @see APIRequestParameter#getName()
+   */
+  @Override
+  public @NonNull String getName () {
+    return _parameter.getName();
+  }
+
+  /**
+   * @see APIRequestParameter#getSize()
+   */
+  @Override
+  public @NonNegative int getSize () {
+    return getOffsets().size;
+  }
+
+  /**
+   * @see APIRequestParameter#get(int)
+   */
+  @Override
+  public @NonNull Optional<String> get (final int index) {
+    @Nullable final CharSequence characters = getCharacters(index);
+    return characters == null ? Optional.empty() : Optional.of(characters.toString());
+  }
+
+  /**
+   * @see APIRequestParameter#getCharacters(int)
+   */
+  @Override
+  public @Nullable CharSequence getCharacters (final int index) {
+    @NonNull final Offsets offsets = getOffsets();
+
+    if (index < 0 || index >= offsets.size) return null;
+
+    @NonNull final CharSequence value = offsets.characters[offsets.values[index]];
+    final int start = offsets.starts[index];
+    final int end = index + 1 < offsets.size && offsets.values[index + 1] == offsets.values[index]
+                    ? offsets.starts[index + 1] - 1
+                    : value.length();
+
+    return start == 0 && end == value.length() ? value : CharBuffer.wrap(value, start, end);
+  }
+
+  /**
+   * @see APIRequestParameter#get()
+   */
+  @Override
+  public @NonNull String[] get () {
+    @NonNull final String[] result = new String[getSize()];
+
+    for (int index = 0; index < result.length; ++index) {
+      result[index] = getCharacters(index).toString();
+    }
+
+    return result;
+  }
+
+  private @NonNull Offsets getOffsets () {
+    @Nullable Offsets offsets = _offsets;
+
+    if (offsets == null) {
+      offsets = new Offsets(_parameter, _delimiter);
+      _offsets = offsets;
+    }
+
+    return offsets;
+  }
+
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof DelimitedAPIRequestParameter) {
+      @NonNull final DelimitedAPIRequestParameter otherParameter = (DelimitedAPIRequestParameter) other;
+
+      return _delimiter == otherParameter.getDelimiter() &&
+             Objects.equals(_parameter, otherParameter.getParameter());
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode () {
+    return Objects.hash(_parameter, _delimiter);
+  }
+
+  /**
+   * The offsets of each sub-value of a parameter : the index of the value that contains it and the index of its first
+   * character in that value, the end of a sub-value being deduced from the start of the next one.
+   */
+  private static final class Offsets
+  {
+    @NonNull
+    final CharSequence[] characters;
+
+    @NonNull
+    final int[] values;
+
+    @NonNull
+    final int[] starts;
+
+    final int size;
+
+    Offsets (@NonNull final APIRequestParameter parameter, final char delimiter) {
+      characters = new CharSequence[parameter.getSize()];
+
+      int count = 0;
+
+      for (int value = 0; value < characters.length; ++value) {
+        @Nullable final CharSequence current = parameter.getCharacters(value);
+        characters[value] = current == null ? "" : current;
+        count += count(characters[value], delimiter);
+      }
+
+      values = new int[count];
+      starts = new int[count];
+      size = count;
+
+      int index = 0;
+
+      for (int value = 0; value < characters.length; ++value) {
+        @NonNull final CharSequence current = characters[value];
+        if (current.length() <= 0) continue;
+
+        values[index] = value;
+        starts[index++] = 0;
+
+        for (int cursor = 0; cursor < current.length(); ++cursor) {
+          if (current.charAt(cursor) == delimiter) {
+            values[index] = value;
+            starts[index++] = cursor + 1;
+          }
+        }
+      }
+    }
+
+    private static int count (@NonNull final CharSequence value, final char delimiter) {
+      if (value.length() <= 0) return 0;
+
+      int result = 1;
+
+      for (int cursor = 0; cursor < value.length(); ++cursor) {
+        if (value.charAt(cursor) == delimiter) ++result;
+      }
+
+      return result;
+    }
+  }
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request;
+
+import com.google.common.collect.Iterators;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
+
+/**
+ * A read-only request view over a map of parameter values, like the ones returned by servlet containers.
+ *
+ * Neither the map nor its arrays are copied, they must therefore not be modified while the request is in use. Null
+ * values are exposed as empty strings, like in StaticAPIRequest.
+ *
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ */
+public class ParameterMapAPIRequest implements APIRequest
+{
+  @NonNull
+  private final Map<@NonNull String, @NonNull String[]> _parameters;
+
+  @NonNull
+  private final Set<@NonNull APIRequestParameter> _view;
+
+  @Nullable
+  private APIRequestParameterIndex _index;
+
+  /**
+   * Cached content hash, 0 if not computed yet.
+   */
+  private int _hashCode;
+
+  /**
+   * Create a new request view over a map of parameter values.
+   *
+   * @param parameters A map of parameters name, values pair.
+   */
+  public ParameterMapAPIRequest (@NonNull final Map<@NonNull String, @NonNull String[]> parameters) {
+    _parameters = parameters;
+    _view = new AbstractSet<APIRequestParameter>() {
+      @Override
+      public @NonNull Iterator<@NonNull APIRequestParameter> iterator () {
+        return ParameterMapAPIRequest.this.iterator();
+      }
+
+      @Override
+      public int size () {
+        return _parameters.size();
+      }
+    };
+  }
+
+  /**
+   * @see Iterable#iterator()
+   */
+  @Override
+  public @NonNull Iterator<@NonNull APIRequestParameter> iterator () {
+    return Iterators.transform(
+      _parameters.entrySet().iterator(),
+      entry -> new ArrayAPIRequestParameter(this, entry.getKey(), entry.getValue())
+    );
+  }
+
+  /**
+   * @see APIRequest#contains(String)
+   */
+  @Override
+  public boolean contains (@NonNull final String name) {
+    return _parameters.containsKey(name);
+  }
+
+  /**
+   * @see APIRequest#getSize()
+   */
+  @Override
+  public int getSize () {
+    return _parameters.size();
+  }
+
+  /**
+   * @see APIRequest#getParameter(String)
+   */
+  @Override
+  public @NonNull APIRequestParameter getParameter (@NonNull final String name) {
+    @Nullable final String[] values = _parameters.get(name);
+
+    return values == null ? new UnregisteredAPIRequestParameter(this, name)
+                          : new ArrayAPIRequestParameter(this, name, values);
+  }
+
+  /**
+   * @see APIRequest#contains(String, String)
+   */
+  @Override
+  public boolean contains (@NonNull final String prefix, @NonNull final String name) {
+    return getIndex().find(prefix, name) != null;
+  }
+
+  /**
+   * @see APIRequest#getParameter(String, String)
+   */
+  @Override
+  public @NonNull APIRequestParameter getParameter (@NonNull final String prefix, @NonNull final String name) {
+    @Nullable final APIRequestParameter result = getIndex().find(prefix, name);
+    return result == null ? new UnregisteredAPIRequestParameter(this, prefix + name) : result;
+  }
+
+  /**
+   * @see APIRequest#getParameters()
+   */
+  @Override
+  public @NonNull Set<@NonNull APIRequestParameter> getParameters () {
+    return _view;
+  }
+
+  /**
+   * @see APIRequest#getParametersWithPrefix(String)
+   */
+  @Override
+  public @NonNull Collection<@NonNull APIRequestParameter> getParametersWithPrefix (@NonNull final String prefix) {
+    return getIndex().getParameters(prefix);
+  }
+
+  /**
+   * Return an index of all parameters of this request sorted by name, the index is built on the first call.
+   *
+   * @return An index of all parameters of this request sorted by name.
+   */
+  private @NonNull APIRequestParameterIndex getIndex () {
+    @Nullable APIRequestParameterIndex index = _index;
+
+    if (index == null) {
+      index = new APIRequestParameterIndex(this);
+      _index = index;
+    }
+
+    return index;
+  }
+
+  /**
+   * @see APIRequest#getRequest(String)
+   */
+  @Override
+  public @NonNull APIRequest getRequest (@NonNull final String prefix) {
+    return new ChildAPIRequest(prefix, this);
+  }
+
+  /**
+   * Check if another object is a request with the same parameters and values.
+   *
+   * @see APIRequestContent#equals(APIRequest, Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    return APIRequestContent.equals(this, other);
+  }
+
+  /**
+   * Return the content hash of this request, computed on the first call as the underlying map must not change.
+   *
+   * @see APIRequestContent#hashCode(APIRequest)
+   */
+  @Override
+  public int hashCode () {
+    int result = _hashCode;
+
+    if (result == 0) {
+      result = APIRequestContent.hashCode(this);
+      _hashCode = result;
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,593 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
+
+/**
+ * An immutable request with structural sharing.
+ *
+ * Parameters are stored in a persistent AVL tree sorted by name. Deriving a request with {@link #with(String, List)}
+ * or {@link #without(String)} copies only the path from the root to the changed parameter and shares everything else
+ * with the original request, so it costs O(log n) whatever the size of the request. Values are stored as arrays
+ * that are never copied between derived requests, parameters are created on demand as views over these arrays.
+ *
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ */
+public final class PersistentAPIRequest implements APIRequest
+{
+  @NonNull
+  private static final PersistentAPIRequest EMPTY = new PersistentAPIRequest(null);
+
+  /**
+   * Return an empty request.
+   *
+   * @return An empty request.
+   */
+  public static @NonNull PersistentAPIRequest empty () {
+    return EMPTY;
+  }
+
+  /**
+   * Return a request with all the parameters of another request.
+   *
+   * The parameters of a child request are copied with their name relative to the child request.
+   *
+   * @param request A request to copy.
+   *
+   * @return A persistent request with all the parameters of the given request.
+   */
+  public static @NonNull PersistentAPIRequest of (@NonNull final APIRequest request) {
+    if (request instanceof PersistentAPIRequest) return (PersistentAPIRequest) request;
+
+    @NonNull final Builder result = builder();
+    final int offset = request instanceof ChildAPIRequest ? ((ChildAPIRequest) request).getPrefix().length() : 0;
+
+    for (@NonNull final APIRequestParameter parameter : request) {
+      result._root = put(result._root, parameter.getName().substring(offset), parameter.get());
+    }
+
+    return result.build();
+  }
+
+  /**
+   * Return a request with all the parameters stored in a given map.
+   *
+   * @param parameters A map of parameters key, values pair.
+   *
+   * @return A persistent request with all the parameters of the given map.
+   */
+  public static @NonNull PersistentAPIRequest of (
+    @NonNull final Map<@NonNull String, @NonNull List<@Nullable String>> parameters
+  ) {
+    @NonNull final Builder result = builder();
+
+    for (final Map.@NonNull Entry<@NonNull String, @NonNull List<@Nullable String>> entry : parameters.entrySet()) {
+      result.with(entry.getKey(), entry.getValue());
+    }
+
+    return result.build();
+  }
+
+  /**
+   * Return a builder that starts from an empty request.
+   *
+   * @return A builder that starts from an empty request.
+   */
+  public static @NonNull Builder builder () {
+    return new Builder(null);
+  }
+
+  @Nullable
+  private final Node _root;
+
+  @NonNull
+  private final Set<@NonNull APIRequestParameter> _view;
+
+  /**
+   * Cached content hash, 0 if not computed yet.
+   */
+  private int _hashCode;
+
+  private PersistentAPIRequest (@Nullable final Node root) {
+    _root = root;
+    _view = new AbstractSet<APIRequestParameter>() {
+      @Override
+      public @NonNull Iterator<@NonNull APIRequestParameter> iterator () {
+        return PersistentAPIRequest.this.iterator();
+      }
+
+      @Override
+      public int size () {
+        return getSize();
+      }
+    };
+  }
+
+  /**
+   * Return a request with the given parameter set to the given values, all other parameters are shared.
+   *
+   * @param name Name of the parameter to set.
+   * @param values New values of the parameter.
+   *
+   * @return A request with the given parameter set to the given values.
+   */
+  public @NonNull PersistentAPIRequest with (@NonNull final String name, @NonNull final String ...values) {
+    return new PersistentAPIRequest(put(_root, name, values.clone()));
+  }
+
+  /**
+   * Return a request with the given parameter set to the given values, all other parameters are shared.
+   *
+   * @param name Name of the parameter to set.
+   * @param values New values of the parameter.
+   *
+   * @return A request with the given parameter set to the given values.
+   */
+  public @NonNull PersistentAPIRequest with (@NonNull final String name, @NonNull final List<@Nullable String> values) {
+    return new PersistentAPIRequest(put(_root, name, values.toArray(new String[0])));
+  }
+
+  /**
+   * Return a request without the given parameter, all other parameters are shared.
+   *
+   * @param name Name of the parameter to remove.
+   *
+   * @return A request without the given parameter, this request if it does not contain the parameter.
+   */
+  public @NonNull PersistentAPIRequest without (@NonNull final String name) {
+    @Nullable final Node root = remove(_root, name);
+    return root == _root ? this : new PersistentAPIRequest(root);
+  }
+
+  /**
+   * Return a request without all parameters with a name that starts with the given prefix.
+   *
+   * @param prefix Prefix of the parameters to remove.
+   *
+   * @return A request without all parameters that share the given prefix.
+   */
+  public @NonNull PersistentAPIRequest withoutPrefix (@NonNull final String prefix) {
+    @Nullable Node root = _root;
+
+    for (@NonNull final APIRequestParameter parameter : getParametersWithPrefix(prefix)) {
+      root = remove(root, parameter.getName());
+    }
+
+    return root == _root ? this : new PersistentAPIRequest(root);
+  }
+
+  /**
+   * Return a builder that starts from this request.
+   *
+   * @return A builder that starts from this request.
+   */
+  public @NonNull Builder toBuilder () {
+    return new Builder(_root);
+  }
+
+  /**
+   * @see Iterable#iterator()
+   */
+  @Override
+  public @NonNull Iterator<@NonNull APIRequestParameter> iterator () {
+    @NonNull final NodeIterator nodes = new NodeIterator(_root, null);
+
+    return new Iterator<APIRequestParameter>() {
+      @Override
+      public boolean hasNext () {
+        return nodes.hasNext();
+      }
+
+      @Override
+      public @NonNull APIRequestParameter next () {
+        return view(nodes.next());
+      }
+    };
+  }
+
+  /**
+   * @see APIRequest#contains(String)
+   */
+  @Override
+  public boolean contains (@NonNull final String name) {
+    return find(_root, name) != null;
+  }
+
+  /**
+   * @see APIRequest#contains(String, String)
+   */
+  @Override
+  public boolean contains (@NonNull final String prefix, @NonNull final String name) {
+    return find(_root, prefix, name) != null;
+  }
+
+  /**
+   * @see APIRequest#getSize()
+   */
+  @Override
+  public @NonNegative int getSize () {
+    return size(_root);
+  }
+
+  /**
+   * @see APIRequest#getParameter(String)
+   */
+  @Override
+  public @NonNull APIRequestParameter getParameter (@NonNull final String name) {
+    @Nullable final Node node = find(_root, name);
+    return node == null ? new UnregisteredAPIRequestParameter(this, name) : view(node);
+  }
+
+  /**
+   * @see APIRequest#getParameter(String, String)
+   */
+  @Override
+  public @NonNull APIRequestParameter getParameter (@NonNull final String prefix, @NonNull final String name) {
+    @Nullable final Node node = find(_root, prefix, name);
+    return node == null ? new UnregisteredAPIRequestParameter(this, prefix + name) : view(node);
+  }
+
+  /**
+   * @see APIRequest#getParameters()
+   */
+  @Override
+  public @NonNull Set<@NonNull APIRequestParameter> getParameters () {
+    return _view;
+  }
+
+  /**
+   * Return all parameters of this request with a name that starts with the given prefix, sorted by name.
+   *
+   * @param prefix A prefix to use for the extraction.
+   *
+   * @return All parameters of this request with a name that starts with the given prefix, sorted by name.
+   */
+  @Override
+  public @NonNull Collection<@NonNull APIRequestParameter> getParametersWithPrefix (@NonNull final String prefix) {
+    @NonNull final List<@NonNull APIRequestParameter> result = new ArrayList<>();
+    @NonNull final NodeIterator nodes = new NodeIterator(_root, prefix);
+
+    while (nodes.hasNext()) {
+      @NonNull final Node node = nodes.next();
+      if (!node.name.startsWith(prefix)) break;
+      result.add(view(node));
+    }
+
+    return result;
+  }
+
+  /**
+   * @see APIRequest#getRequest(String)
+   */
+  @Override
+  public @NonNull APIRequest getRequest (@NonNull final String prefix) {
+    return new ChildAPIRequest(prefix, this);
+  }
+
+  private @NonNull APIRequestParameter view (@NonNull final Node node) {
+    return new ArrayAPIRequestParameter(this, node.name, node.values);
+  }
+
+  private static @Nullable Node find (@Nullable final Node root, @NonNull final String name) {
+    @Nullable Node current = root;
+
+    while (current != null) {
+      final int comparison = name.compareTo(current.name);
+      if (comparison == 0) return current;
+      current = comparison < 0 ? current.left : current.right;
+    }
+
+    return null;
+  }
+
+  private static @Nullable Node find (
+    @Nullable final Node root,
+    @NonNull final String prefix,
+    @NonNull final String name
+  ) {
+    @Nullable Node current = root;
+
+    while (current != null) {
+      final int comparison = APIRequestParameterIndex.compare(current.name, prefix, name);
+      if (comparison == 0) return current;
+      current = comparison > 0 ? current.left : current.right;
+    }
+
+    return null;
+  }
+
+  private static @NonNull Node put (
+    @Nullable final Node node,
+    @NonNull final String name,
+    @NonNull final String[] values
+  ) {
+    if (node == null) return new Node(name, values, null, null);
+
+    final int comparison = name.compareTo(node.name);
+
+    if (comparison < 0) {
+      return balance(node.name, node.values, put(node.left, name, values), node.right);
+    } else if (comparison > 0) {
+      return balance(node.name, node.values, node.left, put(node.right, name, values));
+    } else {
+      return new Node(name, values, node.left, node.right);
+    }
+  }
+
+  private static @Nullable Node remove (@Nullable final Node node, @NonNull final String name) {
+    if (node == null) return null;
+
+    final int comparison = name.compareTo(node.name);
+
+    if (comparison < 0) {
+      @Nullable final Node left = remove(node.left, name);
+      return left == node.left ? node : balance(node.name, node.values, left, node.right);
+    } else if (comparison > 0) {
+      @Nullable final Node right = remove(node.right, name);
+      return right == node.right ? node : balance(node.name, node.values, node.left, right);
+    } else if (node.left == null) {
+      return node.right;
+    } else if (node.right == null) {
+      return node.left;
+    } else {
+      @NonNull Node successor = node.right;
+      while (successor.left != null) successor = successor.left;
+      return balance(successor.name, successor.values, node.left, remove(node.right, successor.name));
+    }
+  }
+
+  private static @NonNull Node balance (
+    @NonNull final String name,
+    @NonNull final String[] values,
+    @Nullable final Node left,
+    @Nullable final Node right
+  ) {
+    final int difference = height(left) - height(right);
+
+    if (difference > 1) {
+      @NonNull final Node pivot = Objects.requireNonNull(left);
+
+      if (height(pivot.left) >= height(pivot.right)) {
+        return new Node(pivot.name, pivot.values, pivot.left, new Node(name, values, pivot.right, right));
+      } else {
+        @NonNull final Node inner = Objects.requireNonNull(pivot.right);
+        return new Node(
+          inner.name, inner.values,
+          new Node(pivot.name, pivot.values, pivot.left, inner.left),
+          new Node(name, values, inner.right, right)
+        );
+      }
+    } else if (difference < -1) {
+      @NonNull final Node pivot = Objects.requireNonNull(right);
+
+      if (height(pivot.right) >= height(pivot.left)) {
+        return new Node(pivot.name, pivot.values, new Node(name, values, left, pivot.left), pivot.right);
+      } else {
+        @NonNull final Node inner = Objects.requireNonNull(pivot.left);
+        return new Node(
+          inner.name, inner.values,
+          new Node(name, values, left, inner.left),
+          new Node(pivot.name, pivot.values, inner.right, pivot.right)
+        );
+      }
+    }
+
+    return new Node(name, values, left, right);
+  }
+
+  private static int height (@Nullable final Node node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static @NonNegative int size (@Nullable final Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+  /**
+   * An immutable node of the tree of parameters.
+   */
+  private static final class Node
+  {
+    @NonNull
+    final String name;
+
+    @NonNull
+    final String[] values;
+
+    @Nullable
+    final Node left;
+
+    @Nullable
+    final Node right;
+
+    final int height;
+
+    @NonNegative
+    final int size;
+
+    Node (
+      @NonNull final String name,
+      @NonNull final String[] values,
+      @Nullable final Node left,
+      @Nullable final Node right
+    ) {
+      this.name = name;
+      this.values = values;
+      this.left = left;
+      this.right = right;
+      this.height = 1 + Math.max(PersistentAPIRequest.height(left), PersistentAPIRequest.height(right));
+      this.size = 1 + PersistentAPIRequest.size(left) + PersistentAPIRequest.size(right);
+    }
+  }
+
+  /**
+   * An in-order iterator over the nodes of a tree, starting at the first node greater than or equal to a name.
+   */
+  private static final class NodeIterator implements Iterator<Node>
+  {
+    @NonNull
+    private final Deque<@NonNull Node> _stack;
+
+    NodeIterator (@Nullable final Node root, @Nullable final String from) {
+      _stack = new ArrayDeque<>();
+      @Nullable Node current = root;
+
+      while (current != null) {
+        if (from == null || current.name.compareTo(from) >= 0) {
+          _stack.push(current);
+          current = current.left;
+        } else {
+          current = current.right;
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext () {
+      return !_stack.isEmpty();
+    }
+
+    @Override
+    public @NonNull Node next () {
+      if (_stack.isEmpty()) throw new NoSuchElementException();
+
+      @NonNull final Node result = _stack.pop();
+      @Nullable Node current = result.right;
+
+      while (current != null) {
+        _stack.push(current);
+        current = current.left;
+      }
+
+      return result;
+    }
+  }
+
+  /**
+   * A mutable builder of persistent requests.
+   *
+   * Building a request does not copy anything, the builder can therefore be reused after each call to
+   * {@link #build()} without affecting the requests already built.
+   */
+  public static final class Builder
+  {
+    @Nullable
+    private Node _root;
+
+    private Builder (@Nullable final Node root) {
+      _root = root;
+    }
+
+    /**
+     * Set a parameter of the request to build to the given values.
+     *
+     * @param name Name of the parameter to set.
+     * @param values New values of the parameter.
+     *
+     * @return This builder.
+     */
+    public @NonNull Builder with (@NonNull final String name, @NonNull final String ...values) {
+      _root = put(_root, name, values.clone());
+      return this;
+    }
+
+    /**
+     * Set a parameter of the request to build to the given values.
+     *
+     * @param name Name of the parameter to set.
+     * @param values New values of the parameter.
+     *
+     * @return This builder.
+     */
+    public @NonNull Builder with (@NonNull final String name, @NonNull final List<@Nullable String> values) {
+      _root = put(_root, name, values.toArray(new String[0]));
+      return this;
+    }
+
+    /**
+     * Remove a parameter from the request to build, if it exists.
+     *
+     * @param name Name of the parameter to remove.
+     *
+     * @return This builder.
+     */
+    public @NonNull Builder without (@NonNull final String name) {
+      _root = remove(_root, name);
+      return this;
+    }
+
+    /**
+     * Remove all parameters with a name that starts with the given prefix from the request to build.
+     *
+     * @param prefix Prefix of the parameters to remove.
+     *
+     * @return This builder.
+     */
+    public @NonNull Builder withoutPrefix (@NonNull final String prefix) {
+      _root = new PersistentAPIRequest(_root).withoutPrefix(prefix)._root;
+      return this;
+    }
+
+    /**
+     * Return a request with all parameters set so far, that is not affected by any later change of this builder.
+     *
+     * @return A request with all parameters set so far.
+     */
+    public @NonNull PersistentAPIRequest build () {
+      return _root == null ? EMPTY : new PersistentAPIRequest(_root);
+    }
+  }
+
+  /**
+   * Check if another object is a request with the same parameters and values.
+   *
+   * @see APIRequestContent#equals(APIRequest, Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == this) return true;
+    if (other instanceof PersistentAPIRequest && hashCode() != other.hashCode()) return false;
+    return APIRequestContent.equals(this, other);
+  }
+
+  /**
+   * Return the content hash of this request, computed on the first call.
+   *
+   * @see APIRequestContent#hashCode(APIRequest)
+   */
+  @Override
+  public int hashCode () {
+    int result = _hashCode;
+
+    if (result == 0) {
+      result = APIRequestContent.hashCode(this);
+      _hashCode = result;
+    }
+
+    return result;
+  }
+}
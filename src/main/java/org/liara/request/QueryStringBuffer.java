@@ -0,0 +1,282 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A read-only view over a raw, percent-encoded, query string.
+ *
+ * The view never copies the underlying content, it only decodes slices of it on demand.
+ *
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ */
+abstract class QueryStringBuffer
+{
+  /**
+   * Return a view over a query string stored as a sequence of characters.
+   *
+   * @param query A query string, its content must not change while the view is in use.
+   *
+   * @return A view over the given query string.
+   */
+  static @NonNull QueryStringBuffer of (@NonNull final CharSequence query) {
+    return new CharSequenceQueryStringBuffer(query);
+  }
+
+  /**
+   * Return a view over a query string stored as a sequence of US-ASCII or UTF-8 bytes.
+   *
+   * @param query A query string, its content must not change while the view is in use.
+   *
+   * @return A view over the given query string.
+   */
+  static @NonNull QueryStringBuffer of (@NonNull final byte[] query) {
+    return new ByteArrayQueryStringBuffer(query);
+  }
+
+  /**
+   * Return a view over the remaining bytes of a buffer that contains a US-ASCII or UTF-8 query string.
+   *
+   * @param query A query string, its content must not change while the view is in use.
+   *
+   * @return A view over the given query string.
+   */
+  static @NonNull QueryStringBuffer of (@NonNull final ByteBuffer query) {
+    return new ByteBufferQueryStringBuffer(query.slice());
+  }
+
+  /**
+   * Return the number of characters, or bytes, of the query string.
+   *
+   * @return The number of characters, or bytes, of the query string.
+   */
+  abstract @NonNegative int length ();
+
+  /**
+   * Return the character, or the unsigned byte, at the given index of the query string.
+   *
+   * @param index Index of the character to return.
+   *
+   * @return The character, or the unsigned byte, at the given index of the query string.
+   */
+  abstract int charAt (@NonNegative final int index);
+
+  /**
+   * Return true if this query string is made of bytes that must be decoded as UTF-8.
+   *
+   * @return True if this query string is made of bytes that must be decoded as UTF-8.
+   */
+  abstract boolean isEncoded ();
+
+  /**
+   * Return a slice of the query string without any decoding.
+   *
+   * @param from Index of the first character of the slice.
+   * @param to Index of the character that follows the slice.
+   *
+   * @return The raw content of the given slice.
+   */
+  abstract @NonNull String substring (@NonNegative final int from, @NonNegative final int to);
+
+  /**
+   * Decode a percent-encoded slice of the query string.
+   *
+   * Plus signs are decoded as spaces, malformed escape sequences are kept as-is and invalid UTF-8 sequences are
+   * replaced by the unicode replacement character.
+   *
+   * @param from Index of the first character of the slice.
+   * @param to Index of the character that follows the slice.
+   *
+   * @return The decoded content of the given slice.
+   */
+  @NonNull String decode (@NonNegative final int from, @NonNegative final int to) {
+    if (isPlain(from, to)) return substring(from, to);
+
+    @NonNull final StringBuilder result = new StringBuilder(to - from);
+    byte[] pending = new byte[Math.min(16, to - from)];
+    int pendingSize = 0;
+    int index = from;
+
+    while (index < to) {
+      final int current = charAt(index);
+      final int escaped = current == '%' ? unescape(index, to) : -1;
+
+      if (escaped >= 0 || (current >= 0x80 && isEncoded())) {
+        if (pendingSize == pending.length) pending = Arrays.copyOf(pending, pending.length * 2);
+        pending[pendingSize++] = (byte) (escaped >= 0 ? escaped : current);
+        index += escaped >= 0 ? 3 : 1;
+      } else {
+        if (pendingSize > 0) {
+          result.append(new String(pending, 0, pendingSize, StandardCharsets.UTF_8));
+          pendingSize = 0;
+        }
+
+        result.append(current == '+' ? ' ' : (char) current);
+        index += 1;
+      }
+    }
+
+    if (pendingSize > 0) result.append(new String(pending, 0, pendingSize, StandardCharsets.UTF_8));
+
+    return result.toString();
+  }
+
+  /**
+   * Return true if the given slice does not contain any character to decode.
+   *
+   * @param from Index of the first character of the slice.
+   * @param to Index of the character that follows the slice.
+   *
+   * @return True if the given slice does not contain any character to decode.
+   */
+  private boolean isPlain (@NonNegative final int from, @NonNegative final int to) {
+    for (int index = from; index < to; ++index) {
+      final int current = charAt(index);
+      if (current == '%' || current == '+') return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * Return the byte encoded by the escape sequence at the given index, or -1 if the sequence is malformed.
+   *
+   * @param index Index of the percent sign that starts the escape sequence.
+   * @param to Index of the character that follows the slice to decode.
+   *
+   * @return The byte encoded by the escape sequence at the given index, or -1 if the sequence is malformed.
+   */
+  private int unescape (@NonNegative final int index, @NonNegative final int to) {
+    if (index + 2 >= to) return -1;
+
+    final int high = Character.digit(charAt(index + 1), 16);
+    final int low = Character.digit(charAt(index + 2), 16);
+
+    return high < 0 || low < 0 ? -1 : (high << 4) | low;
+  }
+
+  private static final class CharSequenceQueryStringBuffer extends QueryStringBuffer
+  {
+    @NonNull
+    private final CharSequence _query;
+
+    CharSequenceQueryStringBuffer (@NonNull final CharSequence query) {
+      _query = query;
+    }
+
+    @Override
+    @NonNegative int length () {
+      return _query.length();
+    }
+
+    @Override
+    int charAt (@NonNegative final int index) {
+      return _query.charAt(index);
+    }
+
+    @Override
+    boolean isEncoded () {
+      return false;
+    }
+
+    @Override
+    @NonNull String substring (@NonNegative final int from, @NonNegative final int to) {
+      return _query.subSequence(from, to).toString();
+    }
+  }
+
+  private static final class ByteArrayQueryStringBuffer extends QueryStringBuffer
+  {
+    @NonNull
+    private final byte[] _query;
+
+    ByteArrayQueryStringBuffer (@NonNull final byte[] query) {
+      _query = query;
+    }
+
+    @Override
+    @NonNegative int length () {
+      return _query.length;
+    }
+
+    @Override
+    int charAt (@NonNegative final int index) {
+      return _query[index] & 0xFF;
+    }
+
+    @Override
+    boolean isEncoded () {
+      return true;
+    }
+
+    @Override
+    @NonNull String substring (@NonNegative final int from, @NonNegative final int to) {
+      return new String(_query, from, to - from, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static final class ByteBufferQueryStringBuffer extends QueryStringBuffer
+  {
+    @NonNull
+    private final ByteBuffer _query;
+
+    ByteBufferQueryStringBuffer (@NonNull final ByteBuffer query) {
+      _query = query;
+    }
+
+    @Override
+    @NonNegative int length () {
+      return _query.limit();
+    }
+
+    @Override
+    int charAt (@NonNegative final int index) {
+      return _query.get(index) & 0xFF;
+    }
+
+    @Override
+    boolean isEncoded () {
+      return true;
+    }
+
+    @Override
+    @NonNull String substring (@NonNegative final int from, @NonNegative final int to) {
+      if (_query.hasArray()) {
+        return new String(_query.array(), _query.arrayOffset() + from, to - from, StandardCharsets.UTF_8);
+      }
+
+      @NonNull final byte[] content = new byte[to - from];
+
+      for (int index = from; index < to; ++index) {
+        content[index - from] = _query.get(index);
+      }
+
+      return new String(content, StandardCharsets.UTF_8);
+    }
+  }
+}
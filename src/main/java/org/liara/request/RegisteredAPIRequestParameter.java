@@ -27,6 +27,7 @@ package org.liara.request;
 import com.google.common.collect.Iterators;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -150,6 +151,14 @@ public class RegisteredAPIRequestParameter implements APIRequestParameter {
     }
   }
 
+  /**
+   * @see APIRequestParameter#getCharacters(int)
+   */
+  @Override
+  public @Nullable CharSequence getCharacters (final int index) {
+    return index >= 0 && index < _values.length ? _values[index] : null;
+  }
+
   /**
    * @see APIRequestParameter#get()
    */
@@ -23,10 +23,15 @@ package org.liara.request;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 /**
@@ -34,8 +39,28 @@ import java.util.stream.Collectors;
  */
 public class StaticAPIRequest implements APIRequest
 {
+  /**
+   * A weak interner shared by all requests created with it, unused strings are still garbage collected.
+   */
+  @NonNull
+  public static final Interner<@NonNull String> SHARED_INTERNER = Interners.newWeakInterner();
+
   @NonNull
   private final BiMap<@NonNull String, @NonNull APIRequestParameter> _parameters;
+
+  @Nullable
+  private APIRequestParameterIndex _index;
+
+  /**
+   * Cached content hash, 0 if not computed yet.
+   */
+  private int _hashCode;
+
+  /**
+   * Child requests already returned by this request, by prefix, allocated on the first call to getRequest.
+   */
+  @Nullable
+  private ConcurrentMap<@NonNull String, @NonNull APIRequest> _children;
   
   /**
    * Create a new empty StaticAPIRequest instance.
@@ -57,6 +82,67 @@ public class StaticAPIRequest implements APIRequest
     }
   }
 
+  /**
+   * Create a new deep copy of another StaticAPIRequest instance that intern all parameter names and values.
+   *
+   * @param toCopy A request to copy.
+   * @param interner An interner to use for sharing equal names and values with other requests.
+   */
+  public StaticAPIRequest (
+    @NonNull final StaticAPIRequest toCopy,
+    @NonNull final Interner<@NonNull String> interner
+  ) {
+    _parameters = HashBiMap.create();
+
+    for (@NonNull final APIRequestParameter parameter : toCopy) {
+      @NonNull final String name = interner.intern(parameter.getName());
+      _parameters.put(name, new RegisteredAPIRequestParameter(this, name, intern(parameter, interner)));
+    }
+  }
+
+  /**
+   * Create a new StaticAPIRequest instance with all the parameters stored in a given Map, all parameter names and
+   * values are interned.
+   *
+   * Requests that are kept alive for a long time, like in audit buffers or job queues, should be created with a
+   * shared interner in order to not retain their own copies of frequent names and values.
+   *
+   * @param parameters A map of parameters key, values pair.
+   * @param interner An interner to use for sharing equal names and values with other requests.
+   */
+  public StaticAPIRequest (
+    @NonNull final Map<@NonNull String, @NonNull List<@Nullable String>> parameters,
+    @NonNull final Interner<@NonNull String> interner
+  ) {
+    _parameters = HashBiMap.create();
+
+    for (final Map.@NonNull Entry<@NonNull String, @NonNull List<@Nullable String>> entry : parameters.entrySet()) {
+      @NonNull final String name = interner.intern(entry.getKey());
+
+      _parameters.put(
+        name,
+        new RegisteredAPIRequestParameter(
+          this,
+          name,
+          entry.getValue().stream().map(x -> interner.intern(x == null ? "" : x)).collect(Collectors.toList())
+        )
+      );
+    }
+  }
+
+  private static @NonNull List<@NonNull String> intern (
+    @NonNull final APIRequestParameter parameter,
+    @NonNull final Interner<@NonNull String> interner
+  ) {
+    @NonNull final List<@NonNull String> result = new ArrayList<>(parameter.getSize());
+
+    for (@NonNull final String value : parameter) {
+      result.add(interner.intern(value));
+    }
+
+    return result;
+  }
+
   /**
    * Create a new StaticAPIRequest instance with all the parameters stored in a given Map.
    *
@@ -77,6 +163,96 @@ public class StaticAPIRequest implements APIRequest
     }
   }
   
+  /**
+   * Create a new StaticAPIRequest instance from a raw query string like "a=1&b=2&b=3".
+   *
+   * Values are not copied : they are percent-decoded from the given query string the first time they are read. The
+   * given query string must therefore not be modified while the request is in use.
+   *
+   * @param query A raw query string without its leading question mark.
+   *
+   * @return A request with all parameters of the given query string.
+   */
+  public static @NonNull StaticAPIRequest fromQueryString (@NonNull final CharSequence query) {
+    return new StaticAPIRequest(QueryStringBuffer.of(query));
+  }
+
+  /**
+   * Create a new StaticAPIRequest instance from a raw US-ASCII or UTF-8 query string like "a=1&b=2&b=3".
+   *
+   * @param query A raw query string without its leading question mark.
+   *
+   * @return A request with all parameters of the given query string.
+   *
+   * @see #fromQueryString(CharSequence)
+   */
+  public static @NonNull StaticAPIRequest fromQueryString (@NonNull final byte[] query) {
+    return new StaticAPIRequest(QueryStringBuffer.of(query));
+  }
+
+  /**
+   * Create a new StaticAPIRequest instance from the remaining bytes of a buffer that contains a raw US-ASCII or UTF-8
+   * query string like "a=1&b=2&b=3". The position of the given buffer is left unchanged.
+   *
+   * @param query A raw query string without its leading question mark.
+   *
+   * @return A request with all parameters of the given query string.
+   *
+   * @see #fromQueryString(CharSequence)
+   */
+  public static @NonNull StaticAPIRequest fromQueryString (@NonNull final ByteBuffer query) {
+    return new StaticAPIRequest(QueryStringBuffer.of(query));
+  }
+
+  /**
+   * Create a new StaticAPIRequest instance with all the parameters of a raw query string.
+   *
+   * @param query A raw query string.
+   */
+  private StaticAPIRequest (@NonNull final QueryStringBuffer query) {
+    _parameters = HashBiMap.create();
+
+    @NonNull final Map<@NonNull String, @NonNull int[]> bounds = new HashMap<>();
+    final int length = query.length();
+    int start = 0;
+
+    while (start < length) {
+      int end = start;
+      int separator = -1;
+
+      while (end < length && query.charAt(end) != '&') {
+        if (separator < 0 && query.charAt(end) == '=') separator = end;
+        ++end;
+      }
+
+      if (end > start) {
+        @NonNull final String name = query.decode(start, separator < 0 ? end : separator);
+        @Nullable int[] values = bounds.get(name);
+
+        if (values == null) {
+          values = new int[3];
+        } else if (values.length < 3 + 2 * values[0]) {
+          values = Arrays.copyOf(values, values.length * 2 + 1);
+        }
+
+        values[1 + 2 * values[0]] = separator < 0 ? end : separator + 1;
+        values[2 + 2 * values[0]] = end;
+        values[0] += 1;
+
+        bounds.put(name, values);
+      }
+
+      start = end + 1;
+    }
+
+    for (final Map.@NonNull Entry<@NonNull String, @NonNull int[]> entry : bounds.entrySet()) {
+      _parameters.put(
+        entry.getKey(),
+        new QueryStringAPIRequestParameter(this, entry.getKey(), query, entry.getValue())
+      );
+    }
+  }
+
   /**
    * @see Iterable#iterator()
    */
@@ -119,6 +295,23 @@ public class StaticAPIRequest implements APIRequest
                                          : new UnregisteredAPIRequestParameter(this, name);
   }
 
+  /**
+   * @see APIRequest#contains(String, String)
+   */
+  @Override
+  public boolean contains (@NonNull final String prefix, @NonNull final String name) {
+    return getIndex().find(prefix, name) != null;
+  }
+
+  /**
+   * @see APIRequest#getParameter(String, String)
+   */
+  @Override
+  public @NonNull APIRequestParameter getParameter (@NonNull final String prefix, @NonNull final String name) {
+    @Nullable final APIRequestParameter result = getIndex().find(prefix, name);
+    return result == null ? new UnregisteredAPIRequestParameter(this, prefix + name) : result;
+  }
+
   /**
    * Return all parameters of this request.
    *
@@ -129,15 +322,87 @@ public class StaticAPIRequest implements APIRequest
     return Collections.unmodifiableSet(_parameters.values());
   }
 
+  /**
+   * Return all parameters of this request with a name that starts with the given prefix.
+   *
+   * @param prefix A prefix to use for the extraction.
+   *
+   * @return An unmodifiable view over all parameters of this request that share the given prefix, sorted by name.
+   */
+  @Override
+  public @NonNull Collection<@NonNull APIRequestParameter> getParametersWithPrefix (@NonNull final String prefix) {
+    return getIndex().getParameters(prefix);
+  }
+
+  /**
+   * Return an index of all parameters of this request sorted by name, the index is built on the first call.
+   *
+   * @return An index of all parameters of this request sorted by name.
+   */
+  private @NonNull APIRequestParameterIndex getIndex () {
+    @Nullable APIRequestParameterIndex index = _index;
+
+    if (index == null) {
+      index = new APIRequestParameterIndex(_parameters.values());
+      _index = index;
+    }
+
+    return index;
+  }
+
   /**
    * Return a child request with all parameters of this request that share a common prefix.
    *
+   * Child requests are kept for further calls with the same prefix.
+   *
    * @param prefix A prefix to use for the extraction.
    *
    * @return A child request with all parameters of this request that share a common prefix.
    */
   @Override
   public @NonNull APIRequest getRequest (@NonNull final String prefix) {
-    return new ChildAPIRequest(prefix,this);
+    @Nullable ConcurrentMap<@NonNull String, @NonNull APIRequest> children = _children;
+
+    if (children == null) {
+      children = new ConcurrentHashMap<>();
+      _children = children;
+    }
+
+    @Nullable final APIRequest result = children.get(prefix);
+    if (result != null) return result;
+
+    @NonNull final APIRequest child = new ChildAPIRequest(prefix, this);
+    @Nullable final APIRequest previous = children.putIfAbsent(prefix, child);
+
+    return previous == null ? child : previous;
+  }
+
+  /**
+   * Check if another object is a request with the same parameters and values.
+   *
+   * @see APIRequestContent#equals(APIRequest, Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == this) return true;
+    if (other instanceof StaticAPIRequest && hashCode() != other.hashCode()) return false;
+    return APIRequestContent.equals(this, other);
+  }
+
+  /**
+   * Return the content hash of this request, computed on the first call.
+   *
+   * @see APIRequestContent#hashCode(APIRequest)
+   */
+  @Override
+  public int hashCode () {
+    int result = _hashCode;
+
+    if (result == 0) {
+      result = APIRequestContent.hashCode(this);
+      _hashCode = result;
+    }
+
+    return result;
   }
 }
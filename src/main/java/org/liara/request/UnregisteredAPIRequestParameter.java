@@ -27,6 +27,7 @@ package org.liara.request;
 import com.google.common.collect.Iterators;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Arrays;
 import java.util.Iterator;
@@ -94,6 +95,14 @@ public class UnregisteredAPIRequestParameter implements APIRequestParameter {
     return Optional.empty();
   }
 
+  /**
+   * @see APIRequestParameter#getCharacters(int)
+   */
+  @Override
+  public @Nullable CharSequence getCharacters (final int index) {
+    return null;
+  }
+
   /**
    * @see APIRequestParameter#get()
    */
@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.codec;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Decode the records written by an {@link APIRequestEncoder}, in the order they were written.
+ *
+ * Decoding a record only reads its names and the bounds of its values : the returned requests are views over the
+ * given buffer and decode each value the first time it is read. The content of the buffer must therefore not change
+ * while the requests are in use.
+ *
+ * A decoder is not thread-safe.
+ */
+public class APIRequestDecoder
+{
+  @NonNull
+  private final List<@NonNull String> _names;
+
+  /**
+   * Create a new decoder with an empty string table.
+   */
+  public APIRequestDecoder () {
+    _names = new ArrayList<>();
+  }
+
+  /**
+   * Decode the record that starts at the current position of a buffer, and move the buffer after it.
+   *
+   * @param input A buffer that contains a record.
+   *
+   * @return A view over the decoded request.
+   *
+   * @throws IllegalStateException If the buffer does not contain a valid record.
+   */
+  public @NonNull BinaryAPIRequest decode (@NonNull final ByteBuffer input) {
+    @NonNull final ByteBuffer buffer = input.asReadOnlyBuffer();
+    final int size = APIRequestVarints.read(input);
+    @NonNull final String[] names = new String[size];
+    @NonNull final int[][] bounds = new int[size][];
+
+    for (int parameter = 0; parameter < size; ++parameter) {
+      names[parameter] = readName(input);
+
+      final int values = APIRequestVarints.read(input);
+      @NonNull final int[] parameterBounds = new int[1 + 2 * values];
+      parameterBounds[0] = values;
+
+      for (int value = 0; value < values; ++value) {
+        final int length = APIRequestVarints.read(input);
+        parameterBounds[1 + 2 * value] = input.position();
+        parameterBounds[2 + 2 * value] = skip(input, length);
+      }
+
+      bounds[parameter] = parameterBounds;
+    }
+
+    return new BinaryAPIRequest(buffer, names, bounds);
+  }
+
+  /**
+   * Return the names registered into the string table of this decoder, in registration order.
+   *
+   * @return The names registered into the string table of this decoder.
+   */
+  public @NonNull List<@NonNull String> getNames () {
+    return Collections.unmodifiableList(_names);
+  }
+
+  private @NonNull String readName (@NonNull final ByteBuffer input) {
+    final int reference = APIRequestVarints.read(input);
+
+    if (reference == 0) {
+      final int length = APIRequestVarints.read(input);
+      final int start = input.position();
+      @NonNull final String result = decode(input, start, skip(input, length));
+      _names.add(result);
+      return result;
+    } else if (reference <= _names.size()) {
+      return _names.get(reference - 1);
+    } else {
+      throw new IllegalStateException("Reference to the unknown name " + (reference - 1) + ".");
+    }
+  }
+
+  private static int skip (@NonNull final ByteBuffer input, final int length) {
+    if (length > input.remaining()) throw new IllegalStateException("Truncated record.");
+    final int end = input.position() + length;
+    input.position(end);
+    return end;
+  }
+
+  /**
+   * Decode a slice of a buffer as an UTF-8 string.
+   *
+   * @param buffer A buffer to read.
+   * @param start Start index of the slice, inclusive.
+   * @param end End index of the slice, exclusive.
+   *
+   * @return The decoded string.
+   */
+  static @NonNull String decode (@NonNull final ByteBuffer buffer, final int start, final int end) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @NonNull final ByteBuffer slice = buffer.duplicate();
+    slice.limit(end).position(start);
+    return StandardCharsets.UTF_8.decode(slice).toString();
+  }
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.codec;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+import org.liara.request.ChildAPIRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Encode requests in a compact binary format.
+ *
+ * A record is the number of parameters of the request followed by each parameter. A parameter is a reference to its
+ * name, its number of values and each value as a length prefixed UTF-8 string. All numbers are variable length
+ * integers. Names are stored in a string table shared by all records of an encoder : the first occurrence of a name is
+ * written inline after the reference 0 and registered in the table, further occurrences are written as their index in
+ * the table plus one. Records must therefore be decoded in order, by a single {@link APIRequestDecoder}.
+ *
+ * The parameters of a child request are written with their name relative to the child request, so a decoded child
+ * request has the same content as the original one, like {@link org.liara.request.PersistentAPIRequest#of}.
+ *
+ * An encoder is not thread-safe.
+ */
+public class APIRequestEncoder
+{
+  @NonNull
+  private final Map<@NonNull String, @NonNull Integer> _names;
+
+  @NonNull
+  private final ByteArrayOutputStream _buffer;
+
+  /**
+   * Create a new encoder with an empty string table.
+   */
+  public APIRequestEncoder () {
+    _names = new HashMap<>();
+    _buffer = new ByteArrayOutputStream();
+  }
+
+  /**
+   * Create a new encoder that continue a stream of records with an existing string table.
+   *
+   * @param names Names already registered, in registration order.
+   */
+  APIRequestEncoder (@NonNull final List<@NonNull String> names) {
+    this();
+
+    for (@NonNull final String name : names) {
+      _names.put(name, _names.size());
+    }
+  }
+
+  /**
+   * Encode a request.
+   *
+   * The returned array is a copy, use {@link #encode(APIRequest, OutputStream)} to avoid it.
+   *
+   * @param request A request to encode.
+   *
+   * @return The encoded record.
+   */
+  public @NonNull byte[] encode (@NonNull final APIRequest request) {
+    _buffer.reset();
+    encode(request, _buffer);
+    return _buffer.toByteArray();
+  }
+
+  /**
+   * Encode a request into an output stream.
+   *
+   * @param request A request to encode.
+   * @param output An output stream to write into.
+   *
+   * @throws IOException If the output stream fails.
+   */
+  public void encode (@NonNull final APIRequest request, @NonNull final OutputStream output) throws IOException {
+    _buffer.reset();
+    encode(request, _buffer);
+    _buffer.writeTo(output);
+  }
+
+  private void encode (@NonNull final APIRequest request, @NonNull final ByteArrayOutputStream output) {
+    final int offset = request instanceof ChildAPIRequest ? ((ChildAPIRequest) request).getPrefix().length() : 0;
+
+    APIRequestVarints.write(output, request.getSize());
+
+    for (@NonNull final APIRequestParameter parameter : request) {
+      writeName(output, parameter.getName().substring(offset));
+      APIRequestVarints.write(output, parameter.getSize());
+
+      for (@NonNull final String value : parameter) {
+        writeString(output, value);
+      }
+    }
+  }
+
+  private void writeName (@NonNull final ByteArrayOutputStream output, @NonNull final String name) {
+    @Nullable final Integer identifier = _names.get(name);
+
+    if (identifier == null) {
+      APIRequestVarints.write(output, 0);
+      writeString(output, name);
+      _names.put(name, _names.size());
+    } else {
+      APIRequestVarints.write(output, identifier + 1);
+    }
+  }
+
+  private static void writeString (@NonNull final ByteArrayOutputStream output, @NonNull final String value) {
+    @NonNull final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    APIRequestVarints.write(output, bytes.length);
+    output.write(bytes, 0, bytes.length);
+  }
+}
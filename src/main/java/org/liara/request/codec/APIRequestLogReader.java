@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.codec;
+
+import com.google.common.collect.AbstractIterator;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Read back the requests of a log written by an {@link APIRequestLogWriter}.
+ *
+ * The log is memory-mapped and each request is a lazy view over the mapping : values are neither copied nor decoded
+ * until they are read. Each iterator replays the log from its beginning with its own string table. Logs are limited to
+ * 2GB, the size of a single mapping.
+ */
+public class APIRequestLogReader implements Iterable<@NonNull APIRequest>, Closeable
+{
+  @NonNull
+  private final FileChannel _channel;
+
+  @NonNull
+  private final MappedByteBuffer _mapping;
+
+  /**
+   * Open a log.
+   *
+   * @param path Path of the log to read.
+   *
+   * @throws IOException If the log can't be mapped or is not a request log.
+   */
+  public APIRequestLogReader (@NonNull final Path path) throws IOException {
+    _channel = FileChannel.open(path, StandardOpenOption.READ);
+
+    try {
+      if (_channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Unable to map the log " + path + " because it is bigger than 2GB.");
+      }
+
+      _mapping = _channel.map(FileChannel.MapMode.READ_ONLY, 0, _channel.size());
+
+      if (!APIRequestLogWriter.hasHeader(_mapping)) {
+        throw new IOException("The file " + path + " is not a request log.");
+      }
+    } catch (@NonNull final IOException | RuntimeException exception) {
+      _channel.close();
+      throw exception;
+    }
+  }
+
+  /**
+   * Return an iterator over all requests of the log, in order.
+   *
+   * A truncated last record, left by an interrupted writer, is ignored.
+   *
+   * @return An iterator over all requests of the log.
+   */
+  @Override
+  public @NonNull Iterator<@NonNull APIRequest> iterator () {
+    return records(new APIRequestDecoder());
+  }
+
+  /**
+   * Replay the log with a given decoder.
+   *
+   * @param decoder The decoder to use.
+   *
+   * @return An iterator over all requests of the log.
+   */
+  @NonNull Iterator<@NonNull APIRequest> records (@NonNull final APIRequestDecoder decoder) {
+    @NonNull final ByteBuffer buffer = _mapping.duplicate();
+    buffer.position(APIRequestLogWriter.HEADER.length);
+
+    return new AbstractIterator<APIRequest>() {
+      @Override
+      protected @Nullable APIRequest computeNext () {
+        @Nullable final ByteBuffer record = nextRecord(buffer);
+        return record == null ? endOfData() : decoder.decode(record);
+      }
+    };
+  }
+
+  /**
+   * Decode all complete records of the log with a given decoder.
+   *
+   * @param decoder The decoder to use.
+   *
+   * @return The offset of the end of the last complete record of the log, everything after it being a truncated record.
+   */
+  long replay (@NonNull final APIRequestDecoder decoder) {
+    @NonNull final ByteBuffer buffer = _mapping.duplicate();
+    buffer.position(APIRequestLogWriter.HEADER.length);
+
+    for (@Nullable ByteBuffer record = nextRecord(buffer); record != null; record = nextRecord(buffer)) {
+      decoder.decode(record);
+    }
+
+    return buffer.position();
+  }
+
+  /**
+   * Read the next record of a log and move the buffer after it.
+   *
+   * @param buffer A buffer positioned at the start of a record.
+   *
+   * @return The next record, or null if there is no more complete record, in which case the buffer is left unchanged.
+   */
+  private static @Nullable ByteBuffer nextRecord (@NonNull final ByteBuffer buffer) {
+    if (!buffer.hasRemaining()) return null;
+
+    final int start = buffer.position();
+    final int length;
+
+    try {
+      length = APIRequestVarints.read(buffer);
+    } catch (@NonNull final IllegalStateException exception) {
+      buffer.position(start);
+      return null;
+    }
+
+    if (length > buffer.remaining()) {
+      buffer.position(start);
+      return null;
+    }
+
+    @NonNull final ByteBuffer record = buffer.slice();
+    record.limit(length);
+    buffer.position(buffer.position() + length);
+
+    return record;
+  }
+
+  /**
+   * Close the underlying file, the mapping is released when it is no longer referenced by any request.
+   *
+   * @throws IOException If the file can't be closed.
+   */
+  @Override
+  public void close () throws IOException {
+    _channel.close();
+  }
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.codec;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Append requests to a log file, in order to replay them later with an {@link APIRequestLogReader}.
+ *
+ * A log is a header followed by records encoded with an {@link APIRequestEncoder}, each prefixed by its length as a
+ * variable length integer. When an existing log is reopened, its records are replayed once in order to restore the
+ * string table of the encoder, and a truncated last
+ * record left by an interrupted writer is discarded before appending anything. All methods of a writer are synchronized.
+ */
+public class APIRequestLogWriter implements Closeable
+{
+  /**
+   * Magic bytes and version of the log format.
+   */
+  @NonNull
+  static final byte[] HEADER = {'L', 'R', 'Q', 'L', 1};
+
+  @NonNull
+  private final FileChannel _channel;
+
+  @NonNull
+  private final APIRequestEncoder _encoder;
+
+  /**
+   * Open a log for appending, the log is created if it does not exists.
+   *
+   * @param path Path of the log.
+   *
+   * @throws IOException If the log can't be opened or is not a request log.
+   */
+  public APIRequestLogWriter (@NonNull final Path path) throws IOException {
+    if (Files.exists(path) && Files.size(path) > 0) {
+      @NonNull final APIRequestDecoder decoder = new APIRequestDecoder();
+      final long end;
+
+      try (@NonNull final APIRequestLogReader reader = new APIRequestLogReader(path)) {
+        end = reader.replay(decoder);
+      }
+
+      _encoder = new APIRequestEncoder(decoder.getNames());
+      _channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+      try {
+        if (_channel.size() > end) _channel.truncate(end);
+      } catch (@NonNull final IOException | RuntimeException exception) {
+        _channel.close();
+        throw exception;
+      }
+    } else {
+      _encoder = new APIRequestEncoder();
+      _channel = FileChannel.open(
+        path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND
+      );
+      write(ByteBuffer.wrap(HEADER));
+    }
+  }
+
+  /**
+   * Append a request to the log.
+   *
+   * @param request A request to append.
+   *
+   * @throws IOException If the log can't be written.
+   */
+  public synchronized void append (@NonNull final APIRequest request) throws IOException {
+    @NonNull final byte[] record = _encoder.encode(request);
+    @NonNull final ByteBuffer frame = ByteBuffer.allocate(5 + record.length);
+
+    APIRequestVarints.write(frame, record.length);
+    frame.put(record);
+    frame.flip();
+
+    write(frame);
+  }
+
+  /**
+   * Force all appended requests to the storage device.
+   *
+   * @throws IOException If the log can't be written.
+   */
+  public synchronized void flush () throws IOException {
+    _channel.force(false);
+  }
+
+  /**
+   * @see Closeable#close()
+   */
+  @Override
+  public synchronized void close () throws IOException {
+    _channel.close();
+  }
+
+  private void write (@NonNull final ByteBuffer buffer) throws IOException {
+    while (buffer.hasRemaining()) {
+      _channel.write(buffer);
+    }
+  }
+
+  /**
+   * Check that a buffer starts with the header of a log.
+   *
+   * @param buffer A buffer to check.
+   *
+   * @return True if the given buffer starts with the header of a log.
+   */
+  static boolean hasHeader (@NonNull final ByteBuffer buffer) {
+    if (buffer.limit() < HEADER.length) return false;
+
+    for (int index = 0; index < HEADER.length; ++index) {
+      if (buffer.get(index) != HEADER[index]) return false;
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.codec;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Unsigned variable length integers, seven bits per byte with the most significant bit set on all bytes but the last.
+ */
+final class APIRequestVarints
+{
+  private APIRequestVarints () {
+  }
+
+  /**
+   * Write an unsigned variable length integer.
+   *
+   * @param output An output to write into.
+   * @param value A positive value to write.
+   */
+  static void write (@NonNull final ByteArrayOutputStream output, @NonNegative final int value) {
+    int remaining = value;
+
+    while ((remaining & ~0x7F) != 0) {
+      output.write((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+
+    output.write(remaining);
+  }
+
+  /**
+   * Write an unsigned variable length integer.
+   *
+   * @param output A buffer to write into.
+   * @param value A positive value to write.
+   */
+  static void write (@NonNull final ByteBuffer output, @NonNegative final int value) {
+    int remaining = value;
+
+    while ((remaining & ~0x7F) != 0) {
+      output.put((byte) ((remaining & 0x7F) | 0x80));
+      remaining >>>= 7;
+    }
+
+    output.put((byte) remaining);
+  }
+
+  /**
+   * Read an unsigned variable length integer at the current position of a buffer and move after it.
+   *
+   * @param input A buffer to read from.
+   *
+   * @return The value read.
+   *
+   * @throws IllegalStateException If the buffer does not contain a valid integer.
+   */
+  static @NonNegative int read (@NonNull final ByteBuffer input) {
+    int result = 0;
+
+    try {
+      for (int shift = 0; shift < 32; shift += 7) {
+        final byte current = input.get();
+        result |= (current & 0x7F) << shift;
+        if ((current & 0x80) == 0) {
+          if (result < 0) break;
+          return result;
+        }
+      }
+    } catch (@NonNull final BufferUnderflowException exception) {
+      throw new IllegalStateException("Truncated variable length integer.", exception);
+    }
+
+    throw new IllegalStateException("Malformed variable length integer.");
+  }
+}
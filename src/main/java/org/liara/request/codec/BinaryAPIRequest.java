@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.codec;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.*;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A read-only request view over a binary record, values are decoded the first time they are read.
+ */
+public class BinaryAPIRequest implements APIRequest
+{
+  @NonNull
+  private final Map<@NonNull String, @NonNull APIRequestParameter> _parameters;
+
+  @Nullable
+  private APIRequestParameterIndex _index;
+
+  /**
+   * Cached content hash, 0 if not computed yet.
+   */
+  private int _hashCode;
+
+  /**
+   * Create a new view over a binary record.
+   *
+   * @param buffer The buffer that contains the record.
+   * @param names Names of each parameter.
+   * @param bounds For each parameter, its number of values followed by the start and the end index of each value.
+   */
+  BinaryAPIRequest (
+    @NonNull final ByteBuffer buffer,
+    @NonNull final String[] names,
+    @NonNull final int[][] bounds
+  ) {
+    _parameters = new LinkedHashMap<>();
+
+    for (int index = 0; index < names.length; ++index) {
+      _parameters.put(names[index], new BinaryAPIRequestParameter(this, names[index], buffer, bounds[index]));
+    }
+  }
+
+  /**
+   * @see Iterable#iterator()
+   */
+  @Override
+  public @NonNull Iterator<@NonNull APIRequestParameter> iterator () {
+    return getParameters().iterator();
+  }
+
+  /**
+   * @see APIRequest#contains(String)
+   */
+  @Override
+  public boolean contains (@NonNull final String name) {
+    return _parameters.containsKey(name);
+  }
+
+  /**
+   * @see APIRequest#getSize()
+   */
+  @Override
+  public @NonNegative int getSize () {
+    return _parameters.size();
+  }
+
+  /**
+   * @see APIRequest#getParameter(String)
+   */
+  @Override
+  public @NonNull APIRequestParameter getParameter (@NonNull final String name) {
+    @Nullable final APIRequestParameter result = _parameters.get(name);
+    return result == null ? new UnregisteredAPIRequestParameter(this, name) : result;
+  }
+
+  /**
+   * @see APIRequest#contains(String, String)
+   */
+  @Override
+  public boolean contains (@NonNull final String prefix, @NonNull final String name) {
+    return getIndex().find(prefix, name) != null;
+  }
+
+  /**
+   * @see APIRequest#getParameter(String, String)
+   */
+  @Override
+  public @NonNull APIRequestParameter getParameter (@NonNull final String prefix, @NonNull final String name) {
+    @Nullable final APIRequestParameter result = getIndex().find(prefix, name);
+    return result == null ? new UnregisteredAPIRequestParameter(this, prefix + name) : result;
+  }
+
+  /**
+   * @see APIRequest#getParameters()
+   */
+  @Override
+  public @NonNull Set<@NonNull APIRequestParameter> getParameters () {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(_parameters.values()));
+  }
+
+  /**
+   * @see APIRequest#getParametersWithPrefix(String)
+   */
+  @Override
+  public @NonNull Collection<@NonNull APIRequestParameter> getParametersWithPrefix (@NonNull final String prefix) {
+    return getIndex().getParameters(prefix);
+  }
+
+  /**
+   * Return an index of all parameters of this request sorted by name, the index is built on the first call.
+   *
+   * @return An index of all parameters of this request sorted by name.
+   */
+  private @NonNull APIRequestParameterIndex getIndex () {
+    @Nullable APIRequestParameterIndex index = _index;
+
+    if (index == null) {
+      index = new APIRequestParameterIndex(_parameters.values());
+      _index = index;
+    }
+
+    return index;
+  }
+
+  /**
+   * @see APIRequest#getRequest(String)
+   */
+  @Override
+  public @NonNull APIRequest getRequest (@NonNull final String prefix) {
+    return new ChildAPIRequest(prefix, this);
+  }
+
+  /**
+   * Check if another object is a request with the same parameters and values.
+   *
+   * @see APIRequestContent#equals(APIRequest, Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == this) return true;
+    if (other instanceof BinaryAPIRequest && hashCode() != other.hashCode()) return false;
+    return APIRequestContent.equals(this, other);
+  }
+
+  /**
+   * Return the content hash of this request, computed on the first call.
+   *
+   * @see APIRequestContent#hashCode(APIRequest)
+   */
+  @Override
+  public int hashCode () {
+    int result = _hashCode;
+
+    if (result == 0) {
+      result = APIRequestContent.hashCode(this);
+      _hashCode = result;
+    }
+
+    return result;
+  }
+}
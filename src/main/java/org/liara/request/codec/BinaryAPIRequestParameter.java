@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.codec;
+
+import com.google.common.collect.AbstractIterator;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * A parameter whose values are UTF-8 slices of a binary record.
+ *
+ * Values are decoded the first time they are read and then kept for further calls.
+ *
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ */
+public class BinaryAPIRequestParameter implements APIRequestParameter
+{
+  @NonNull
+  private final APIRequest _request;
+
+  @NonNull
+  private final String _name;
+
+  @NonNull
+  private final ByteBuffer _buffer;
+
+  /**
+   * Number of values followed by the start and the end index of each value in the buffer.
+   */
+  @NonNull
+  private final int[] _bounds;
+
+  @Nullable
+  private String[] _values;
+
+  /**
+   * Create a new parameter over some slices of a binary record.
+   *
+   * @param request The parent request.
+   * @param name The name of the parameter.
+   * @param buffer The buffer that contains the values of the parameter.
+   * @param bounds The number of values of the parameter followed by the start and the end index of each value.
+   */
+  BinaryAPIRequestParameter (
+    @NonNull final APIRequest request,
+    @NonNull final String name,
+    @NonNull final ByteBuffer buffer,
+    @NonNull final int[] bounds
+  ) {
+    _request = request;
+    _name = name;
+    _buffer = buffer;
+    _bounds = bounds;
+  }
+
+  /**
+   * @see Iterable#iterator()
+   */
+  @Override
+  public @NonNull Iterator<@NonNull String> iterator () {
+    return new AbstractIterator<String>() {
+      private int _index = 0;
+
+      @Override
+      protected @Nullable String computeNext () {
+        return _index < getSize() ? decode(_index++) : endOfData();
+      }
+    };
+  }
+
+  /**
+   * @see APIRequestParameter#getRequest()
+   */
+  @Override
+  public @NonNull APIRequest getRequest () {
+    return _request;
+  }
+
+  /**
+   * @see APIRequestParameter#getName()
+   */
+  @Override
+  public @NonNull String getName () {
+    return _name;
+  }
+
+  /**
+   * @see APIRequestParameter#getSize()
+   */
+  @Override
+  public @NonNegative int getSize () {
+    return _bounds[0];
+  }
+
+  /**
+   * @see APIRequestParameter#get(int)
+   */
+  @Override
+  public @NonNull Optional<String> get (final int index) {
+    if (index >= 0 && index < getSize()) {
+      return Optional.of(decode(index));
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @see APIRequestParameter#getCharacters(int)
+   */
+  @Override
+  public @Nullable CharSequence getCharacters (final int index) {
+    return index >= 0 && index < getSize() ? decode(index) : null;
+  }
+
+  /**
+   * @see APIRequestParameter#get()
+   */
+  @Override
+  public @NonNull String[] get () {
+    @NonNull final String[] result = new String[getSize()];
+
+    for (int index = 0; index < result.length; ++index) {
+      result[index] = decode(index);
+    }
+
+    return result;
+  }
+
+  /**
+   * Decode, if necessary, and return a value of this parameter.
+   *
+   * @param index Index of the value to return.
+   *
+   * @return The decoded value.
+   */
+  private @NonNull String decode (@NonNegative final int index) {
+    @Nullable String[] values = _values;
+
+    if (values == null) {
+      values = new String[getSize()];
+      _values = values;
+    }
+
+    @Nullable String value = values[index];
+
+    if (value == null) {
+      value = APIRequestDecoder.decode(_buffer, _bounds[1 + 2 * index], _bounds[2 + 2 * index]);
+      values[index] = value;
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.metrics;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Access to the number of bytes allocated by the current thread, when the virtual machine supports it.
+ */
+final class APIRequestAllocations
+{
+  @Nullable
+  private static final ThreadMXBean THREADS = findThreads();
+
+  private static @Nullable ThreadMXBean findThreads () {
+    try {
+      final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+      if (threads instanceof ThreadMXBean) {
+        final ThreadMXBean result = (ThreadMXBean) threads;
+        if (result.isThreadAllocatedMemorySupported() && result.isThreadAllocatedMemoryEnabled()) return result;
+      }
+    } catch (final LinkageError | UnsupportedOperationException | SecurityException exception) {
+      return null;
+    }
+
+    return null;
+  }
+
+  private APIRequestAllocations () {
+  }
+
+  /**
+   * Return the number of bytes allocated by the current thread since its start.
+   *
+   * @return The number of bytes allocated by the current thread, or -1 if the virtual machine does not support it.
+   */
+  static long current () {
+    return THREADS == null ? -1L : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Return the number of bytes allocated by the current thread since a measurement.
+   *
+   * @param start A value returned by {@link #current()}.
+   *
+   * @return The number of bytes allocated since the given measurement, or -1 if it is not available.
+   */
+  static long since (final long start) {
+    return start < 0 ? -1L : current() - start;
+  }
+}
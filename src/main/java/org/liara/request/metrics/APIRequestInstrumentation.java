@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.parser.*;
+import org.liara.request.validator.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Wrap each node of a validator or parser tree into a decorator that report its invocations to a listener.
+ *
+ * Composite nodes (all, childRequest, parallel, map, mapNonNull and orElse) are rebuilt with instrumented children,
+ * other nodes are measured as a whole. Instrumenting a tree with {@link APIRequestMetricsListener#NONE} returns the
+ * tree unchanged, so an application without listener does not pay anything.
+ */
+public final class APIRequestInstrumentation
+{
+  private APIRequestInstrumentation () {
+  }
+
+  /**
+   * Instrument each node of a validator tree.
+   *
+   * @param validator A validator tree to instrument.
+   * @param listener A listener to notify of each invocation of each node of the tree.
+   *
+   * @return An instrumented validator equivalent to the given one.
+   */
+  public static @NonNull APIRequestValidator instrumentValidator (
+    @NonNull final APIRequestValidator validator,
+    @NonNull final APIRequestMetricsListener listener
+  ) {
+    if (listener == APIRequestMetricsListener.NONE) return validator;
+    return instrumentValidator(validator, listener, "");
+  }
+
+  /**
+   * Instrument each node of a parser tree.
+   *
+   * @param parser A parser tree to instrument.
+   * @param listener A listener to notify of each invocation of each node of the tree.
+   * @param <Output> Output type of the parser.
+   *
+   * @return An instrumented parser equivalent to the given one.
+   */
+  public static <Output> @NonNull APIRequestParser<Output> instrumentParser (
+    @NonNull final APIRequestParser<Output> parser,
+    @NonNull final APIRequestMetricsListener listener
+  ) {
+    if (listener == APIRequestMetricsListener.NONE) return parser;
+    return instrumentParser(parser, listener, "");
+  }
+
+  private static @NonNull APIRequestValidator instrumentValidator (
+    @NonNull final APIRequestValidator validator,
+    @NonNull final APIRequestMetricsListener listener,
+    @NonNull final String path
+  ) {
+    @NonNull final APIRequestValidator node;
+    @NonNull final String nodePath;
+    @Nullable final String parameter;
+
+    if (validator instanceof AllAPIRequestValidator) {
+      node = new AllAPIRequestValidator(
+        instrumentValidators(((AllAPIRequestValidator) validator).getValidators(), listener, path)
+      );
+      nodePath = path;
+      parameter = null;
+    } else if (validator instanceof ParallelAPIRequestValidator) {
+      @NonNull final ParallelAPIRequestValidator parallel = (ParallelAPIRequestValidator) validator;
+      node = new ParallelAPIRequestValidator(
+        parallel.getExecutor(), instrumentValidators(parallel.getValidators(), listener, path)
+      );
+      nodePath = path;
+      parameter = null;
+    } else if (validator instanceof ChildAPIRequestValidator) {
+      @NonNull final ChildAPIRequestValidator child = (ChildAPIRequestValidator) validator;
+      nodePath = resolve(path, child.getName());
+      node = new ChildAPIRequestValidator(
+        child.getName(), instrumentValidator(child.getValidator(), listener, nodePath)
+      );
+      parameter = null;
+    } else if (validator instanceof FieldAPIRequestValidator) {
+      node = validator;
+      nodePath = resolve(path, ((FieldAPIRequestValidator) validator).getName());
+      parameter = nodePath;
+    } else if (validator instanceof RequiredAPIRequestValidator) {
+      node = validator;
+      nodePath = resolve(path, ((RequiredAPIRequestValidator) validator).getName());
+      parameter = nodePath;
+    } else {
+      node = validator;
+      nodePath = path;
+      parameter = null;
+    }
+
+    return new InstrumentedAPIRequestValidator(node, listener.register(validator, nodePath), listener, parameter);
+  }
+
+  private static @NonNull List<@NonNull APIRequestValidator> instrumentValidators (
+    @NonNull final List<@NonNull APIRequestValidator> validators,
+    @NonNull final APIRequestMetricsListener listener,
+    @NonNull final String path
+  ) {
+    @NonNull final List<@NonNull APIRequestValidator> result = new ArrayList<>(validators.size());
+
+    for (@NonNull final APIRequestValidator validator : validators) {
+      result.add(instrumentValidator(validator, listener, path));
+    }
+
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <Output> @NonNull APIRequestParser<Output> instrumentParser (
+    @NonNull final APIRequestParser<Output> parser,
+    @NonNull final APIRequestMetricsListener listener,
+    @NonNull final String path
+  ) {
+    @NonNull final APIRequestParser<Output> node;
+    @NonNull final String nodePath;
+
+    if (parser instanceof AllAPIRequestParser) {
+      node = (APIRequestParser<Output>) instrumentAll((AllAPIRequestParser<?>) parser, listener, path);
+      nodePath = path;
+    } else if (parser instanceof ChildAPIRequestParser) {
+      @NonNull final ChildAPIRequestParser<Output> child = (ChildAPIRequestParser<Output>) parser;
+      nodePath = resolve(path, child.getName());
+      node = new ChildAPIRequestParser<>(child.getName(), instrumentParser(child.getParser(), listener, nodePath));
+    } else if (parser instanceof MapAPIRequestParser) {
+      node = instrumentMap((MapAPIRequestParser<?, Output>) parser, listener, path);
+      nodePath = path;
+    } else if (parser instanceof MapNonNullAPIRequestParser) {
+      node = instrumentMapNonNull((MapNonNullAPIRequestParser<?, Output>) parser, listener, path);
+      nodePath = path;
+    } else if (parser instanceof OrElseAPIRequestParser) {
+      @NonNull final OrElseAPIRequestParser<Output> orElse = (OrElseAPIRequestParser<Output>) parser;
+      node = new OrElseAPIRequestParser<>(
+        instrumentParser(orElse.getParser(), listener, path), orElse.getDefaultValue()
+      );
+      nodePath = path;
+    } else if (parser instanceof FieldAPIRequestParser) {
+      node = parser;
+      nodePath = resolve(path, ((FieldAPIRequestParser<?>) parser).getName());
+    } else {
+      node = parser;
+      nodePath = path;
+    }
+
+    return new InstrumentedAPIRequestParser<>(
+      node, listener.register(parser, nodePath), listener.isTrackingAllocations()
+    );
+  }
+
+  private static <Output> @NonNull APIRequestParser<List<@NonNull Output>> instrumentAll (
+    @NonNull final AllAPIRequestParser<Output> parser,
+    @NonNull final APIRequestMetricsListener listener,
+    @NonNull final String path
+  ) {
+    @NonNull final List<@NonNull APIRequestParser<Output>> parsers = new ArrayList<>(parser.getParsers().size());
+
+    for (@NonNull final APIRequestParser<Output> child : parser.getParsers()) {
+      parsers.add(instrumentParser(child, listener, path));
+    }
+
+    return new AllAPIRequestParser<>(parsers);
+  }
+
+  private static <Input, Output> @NonNull APIRequestParser<Output> instrumentMap (
+    @NonNull final MapAPIRequestParser<Input, Output> parser,
+    @NonNull final APIRequestMetricsListener listener,
+    @NonNull final String path
+  ) {
+    return new MapAPIRequestParser<>(instrumentParser(parser.getParser(), listener, path), parser.getMapper());
+  }
+
+  private static <Input, Output> @NonNull APIRequestParser<Output> instrumentMapNonNull (
+    @NonNull final MapNonNullAPIRequestParser<Input, Output> parser,
+    @NonNull final APIRequestMetricsListener listener,
+    @NonNull final String path
+  ) {
+    return new MapNonNullAPIRequestParser<>(instrumentParser(parser.getParser(), listener, path), parser.getMapper());
+  }
+
+  private static @NonNull String resolve (@NonNull final String path, @NonNull final String name) {
+    return path.isEmpty() ? name : path + "." + name;
+  }
+}
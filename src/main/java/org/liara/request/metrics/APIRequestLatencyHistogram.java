@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.metrics;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A concurrent histogram of durations with power of two buckets.
+ *
+ * The bucket i counts the durations in [2^(i-1), 2^i[ nanoseconds, the bucket 0 counts null durations.
+ */
+public final class APIRequestLatencyHistogram
+{
+  /**
+   * Number of buckets of each histogram.
+   */
+  public static final int BUCKETS = 64;
+
+  @NonNull
+  private final LongAdder[] _buckets;
+
+  public APIRequestLatencyHistogram () {
+    _buckets = new LongAdder[BUCKETS];
+
+    for (int index = 0; index < BUCKETS; ++index) {
+      _buckets[index] = new LongAdder();
+    }
+  }
+
+  /**
+   * Register a duration.
+   *
+   * @param nanoseconds A duration to register.
+   */
+  public void record (final long nanoseconds) {
+    _buckets[getBucket(nanoseconds)].increment();
+  }
+
+  /**
+   * Return the bucket of a duration.
+   *
+   * @param nanoseconds A duration.
+   *
+   * @return The bucket that counts the given duration.
+   */
+  public static @NonNegative int getBucket (final long nanoseconds) {
+    return nanoseconds <= 0 ? 0 : Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(nanoseconds));
+  }
+
+  /**
+   * Return the exclusive upper bound of the durations counted by a bucket.
+   *
+   * @param bucket A bucket.
+   *
+   * @return The exclusive upper bound of the durations counted by the given bucket, in nanoseconds.
+   */
+  public static long getUpperBound (@NonNegative final int bucket) {
+    return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+  }
+
+  /**
+   * Return the number of durations registered into a bucket.
+   *
+   * @param bucket A bucket.
+   *
+   * @return The number of durations registered into the given bucket.
+   */
+  public long getCount (@NonNegative final int bucket) {
+    return _buckets[bucket].sum();
+  }
+
+  /**
+   * Return the number of registered durations.
+   *
+   * @return The number of registered durations.
+   */
+  public long getCount () {
+    long result = 0;
+
+    for (@NonNull final LongAdder bucket : _buckets) {
+      result += bucket.sum();
+    }
+
+    return result;
+  }
+
+  /**
+   * Return an upper bound of a quantile of the registered durations.
+   *
+   * @param quantile A quantile between 0 and 1, for example 0.99.
+   *
+   * @return The upper bound of the bucket that contains the given quantile, in nanoseconds, or 0 if the histogram
+   *         is empty.
+   */
+  public long getQuantile (final double quantile) {
+    @NonNull final long[] counts = new long[BUCKETS];
+    long total = 0;
+
+    for (int index = 0; index < BUCKETS; ++index) {
+      counts[index] = _buckets[index].sum();
+      total += counts[index];
+    }
+
+    if (total <= 0) return 0;
+
+    final long rank = (long) Math.ceil(Math.max(0, Math.min(1, quantile)) * total);
+    long seen = 0;
+
+    for (int index = 0; index < BUCKETS; ++index) {
+      seen += counts[index];
+      if (seen >= rank && seen > 0) return getUpperBound(index);
+    }
+
+    return getUpperBound(BUCKETS - 1);
+  }
+
+  /**
+   * Remove all registered durations.
+   */
+  public void reset () {
+    for (@NonNull final LongAdder bucket : _buckets) {
+      bucket.reset();
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A listener that collect the measurements of each node of the trees it instruments and the number of errors found on
+ * each parameter.
+ */
+public final class APIRequestMetrics implements APIRequestMetricsListener
+{
+  @NonNull
+  private final List<@NonNull APIRequestNodeMetrics> _nodes;
+
+  @NonNull
+  private final Map<@NonNull String, @NonNull LongAdder> _parameterErrors;
+
+  private final boolean _trackingAllocations;
+
+  /**
+   * Create a new collector that does not measure allocations.
+   */
+  public APIRequestMetrics () {
+    this(false);
+  }
+
+  /**
+   * Create a new collector.
+   *
+   * @param trackingAllocations True if instrumented nodes should measure the memory allocated by each invocation.
+   */
+  public APIRequestMetrics (final boolean trackingAllocations) {
+    _nodes = new CopyOnWriteArrayList<>();
+    _parameterErrors = new ConcurrentHashMap<>();
+    _trackingAllocations = trackingAllocations;
+  }
+
+  /**
+   * @see APIRequestMetricsListener#register(Object, String)
+   */
+  @Override
+  public @NonNull APIRequestNodeListener register (@NonNull final Object node, @NonNull final String path) {
+    @NonNull final APIRequestNodeMetrics result = new APIRequestNodeMetrics(node, path);
+    _nodes.add(result);
+    return result;
+  }
+
+  /**
+   * @see APIRequestMetricsListener#onParameterErrors(String, int)
+   */
+  @Override
+  public void onParameterErrors (@NonNull final String parameter, final int errors) {
+    _parameterErrors.computeIfAbsent(parameter, key -> new LongAdder()).add(errors);
+  }
+
+  /**
+   * @see APIRequestMetricsListener#isTrackingAllocations()
+   */
+  @Override
+  public boolean isTrackingAllocations () {
+    return _trackingAllocations;
+  }
+
+  /**
+   * Return the measurements of each registered node, in registration order.
+   *
+   * @return The measurements of each registered node.
+   */
+  public @NonNull List<@NonNull APIRequestNodeMetrics> getNodes () {
+    return Collections.unmodifiableList(_nodes);
+  }
+
+  /**
+   * Return a snapshot of the number of errors found on each parameter.
+   *
+   * @return The number of errors found on each parameter, by full parameter name.
+   */
+  public @NonNull Map<@NonNull String, @NonNull Long> getParameterErrors () {
+    @NonNull final Map<@NonNull String, @NonNull Long> result = new HashMap<>();
+
+    for (final Map.@NonNull Entry<@NonNull String, @NonNull LongAdder> entry : _parameterErrors.entrySet()) {
+      result.put(entry.getKey(), entry.getValue().sum());
+    }
+
+    return result;
+  }
+
+  /**
+   * Remove all measurements, registered nodes are kept.
+   */
+  public void reset () {
+    _nodes.forEach(APIRequestNodeMetrics::reset);
+    _parameterErrors.clear();
+  }
+}
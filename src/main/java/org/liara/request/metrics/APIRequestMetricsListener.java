@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that receive the measurements of an instrumented validator or parser tree.
+ *
+ * Each node of an instrumented tree is registered once, when the tree is instrumented, and then report each of its
+ * invocations to the node listener returned by its registration.
+ */
+public interface APIRequestMetricsListener
+{
+  /**
+   * A listener that does not record anything, instrumenting a tree with this listener returns the tree unchanged.
+   */
+  @NonNull
+  APIRequestMetricsListener NONE = (@NonNull final Object node, @NonNull final String path) -> (
+    (final long nanoseconds, final long allocatedBytes, final int errors) -> { }
+  );
+
+  /**
+   * Register a node of an instrumented tree.
+   *
+   * @param node The validator or parser to instrument.
+   * @param path Path of the node in its tree, child requests and fields are separated by dots.
+   *
+   * @return A listener that will receive each invocation of the given node.
+   */
+  @NonNull APIRequestNodeListener register (@NonNull final Object node, @NonNull final String path);
+
+  /**
+   * Notify that errors were found on a parameter.
+   *
+   * @param parameter Full name of the invalid parameter.
+   * @param errors Number of errors found.
+   */
+  default void onParameterErrors (@NonNull final String parameter, final int errors) {
+  }
+
+  /**
+   * Return true if instrumented nodes should measure the memory allocated by each invocation.
+   *
+   * Allocation measurement relies on com.sun.management.ThreadMXBean and is ignored on virtual machines that does not
+   * support it.
+   *
+   * @return True if instrumented nodes should measure the memory allocated by each invocation.
+   */
+  default boolean isTrackingAllocations () {
+    return false;
+  }
+}
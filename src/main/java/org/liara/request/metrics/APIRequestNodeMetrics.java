@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Measurements of a node of an instrumented validator or parser tree.
+ */
+public final class APIRequestNodeMetrics implements APIRequestNodeListener
+{
+  @NonNull
+  private final Object _node;
+
+  @NonNull
+  private final String _path;
+
+  @NonNull
+  private final LongAdder _invocations;
+
+  @NonNull
+  private final LongAdder _errors;
+
+  @NonNull
+  private final LongAdder _nanoseconds;
+
+  @NonNull
+  private final LongAdder _allocatedBytes;
+
+  @NonNull
+  private final APIRequestLatencyHistogram _latencies;
+
+  /**
+   * Create empty measurements for a node.
+   *
+   * @param node The measured validator or parser.
+   * @param path Path of the node in its tree.
+   */
+  public APIRequestNodeMetrics (@NonNull final Object node, @NonNull final String path) {
+    _node = node;
+    _path = path;
+    _invocations = new LongAdder();
+    _errors = new LongAdder();
+    _nanoseconds = new LongAdder();
+    _allocatedBytes = new LongAdder();
+    _latencies = new APIRequestLatencyHistogram();
+  }
+
+  /**
+   * @see APIRequestNodeListener#onInvocation(long, long, int)
+   */
+  @Override
+  public void onInvocation (final long nanoseconds, final long allocatedBytes, final int errors) {
+    _invocations.increment();
+    _nanoseconds.add(nanoseconds);
+    _latencies.record(nanoseconds);
+    if (allocatedBytes > 0) _allocatedBytes.add(allocatedBytes);
+    if (errors > 0) _errors.add(errors);
+  }
+
+  public @NonNull Object getNode () {
+    return _node;
+  }
+
+  public @NonNull String getPath () {
+    return _path;
+  }
+
+  public long getInvocations () {
+    return _invocations.sum();
+  }
+
+  public long getErrors () {
+    return _errors.sum();
+  }
+
+  public long getTotalNanoseconds () {
+    return _nanoseconds.sum();
+  }
+
+  /**
+   * Return an estimation of the number of bytes allocated by all invocations of the node.
+   *
+   * @return The number of bytes allocated by all invocations of the node, 0 if allocations are not measured.
+   */
+  public long getAllocatedBytes () {
+    return _allocatedBytes.sum();
+  }
+
+  public @NonNull APIRequestLatencyHistogram getLatencies () {
+    return _latencies;
+  }
+
+  /**
+   * Remove all measurements.
+   */
+  public void reset () {
+    _invocations.reset();
+    _errors.reset();
+    _nanoseconds.reset();
+    _allocatedBytes.reset();
+    _latencies.reset();
+  }
+
+  /**
+   * @see Object#toString()
+   */
+  @Override
+  public @NonNull String toString () {
+    return super.toString() + "[" + _node.getClass().getSimpleName() + " " + _path + ", invocations: " +
+           getInvocations() + ", errors: " + getErrors() + ", nanoseconds: " + getTotalNanoseconds() + "]";
+  }
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+import org.liara.request.parser.APIRequestParser;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that measure each invocation of another parser.
+ *
+ * @param <Output> Output type of the measured parser.
+ */
+public class InstrumentedAPIRequestParser<Output> implements APIRequestParser<Output>
+{
+  @NonNull
+  private final APIRequestParser<Output> _parser;
+
+  @NonNull
+  private final APIRequestNodeListener _listener;
+
+  private final boolean _trackingAllocations;
+
+  /**
+   * Create a new parser that measure each invocation of another parser.
+   *
+   * @param parser The parser to measure.
+   * @param listener A listener to notify of each invocation of the given parser.
+   * @param trackingAllocations True if the memory allocated by each invocation must be measured.
+   */
+  public InstrumentedAPIRequestParser (
+    @NonNull final APIRequestParser<Output> parser,
+    @NonNull final APIRequestNodeListener listener,
+    final boolean trackingAllocations
+  ) {
+    _parser = parser;
+    _listener = listener;
+    _trackingAllocations = trackingAllocations;
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public Output parse (@NonNull final APIRequest request) {
+    final long allocations = _trackingAllocations ? APIRequestAllocations.current() : -1L;
+    final long start = System.nanoTime();
+
+    final Output result = _parser.parse(request);
+
+    _listener.onInvocation(System.nanoTime() - start, APIRequestAllocations.since(allocations), 0);
+    return result;
+  }
+
+  /**
+   * Return the measured parser.
+   *
+   * @return The measured parser.
+   */
+  public @NonNull APIRequestParser<Output> getParser () {
+    return _parser;
+  }
+}
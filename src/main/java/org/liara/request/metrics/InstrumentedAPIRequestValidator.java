@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.metrics;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.validator.APIRequestValidation;
+import org.liara.request.validator.APIRequestValidator;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator that measure each invocation of another validator.
+ */
+public class InstrumentedAPIRequestValidator implements APIRequestValidator
+{
+  @NonNull
+  private final APIRequestValidator _validator;
+
+  @NonNull
+  private final APIRequestNodeListener _listener;
+
+  @NonNull
+  private final APIRequestMetricsListener _metrics;
+
+  @Nullable
+  private final String _parameter;
+
+  private final boolean _trackingAllocations;
+
+  /**
+   * Create a new validator that measure each invocation of another validator.
+   *
+   * @param validator The validator to measure.
+   * @param listener A listener to notify of each invocation of the given validator.
+   * @param metrics The listener that instrumented the validator.
+   * @param parameter Full name of the parameter checked by the validator, if any, in order to count errors per parameter.
+   */
+  public InstrumentedAPIRequestValidator (
+    @NonNull final APIRequestValidator validator,
+    @NonNull final APIRequestNodeListener listener,
+    @NonNull final APIRequestMetricsListener metrics,
+    @Nullable final String parameter
+  ) {
+    _validator = validator;
+    _listener = listener;
+    _metrics = metrics;
+    _parameter = parameter;
+    _trackingAllocations = metrics.isTrackingAllocations();
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    final long allocations = _trackingAllocations ? APIRequestAllocations.current() : -1L;
+    final long start = System.nanoTime();
+
+    @NonNull final APIRequestValidation result = _validator.validate(request);
+
+    notify(System.nanoTime() - start, allocations, result.getErrorCount());
+    return result;
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    final int errors = validation.getErrorCount();
+    final long allocations = _trackingAllocations ? APIRequestAllocations.current() : -1L;
+    final long start = System.nanoTime();
+
+    _validator.validate(request, validation);
+
+    notify(System.nanoTime() - start, allocations, validation.getErrorCount() - errors);
+  }
+
+  private void notify (final long nanoseconds, final long allocations, final int errors) {
+    _listener.onInvocation(nanoseconds, APIRequestAllocations.since(allocations), errors);
+    if (_parameter != null && errors > 0) _metrics.onParameterErrors(_parameter, errors);
+  }
+
+  /**
+   * Return the measured validator.
+   *
+   * @return The measured validator.
+   */
+  public @NonNull APIRequestValidator getValidator () {
+    return _validator;
+  }
+
+  /**
+   * Return the full name of the parameter checked by the measured validator, if any.
+   *
+   * @return The full name of the parameter checked by the measured validator, or null.
+   */
+  public @Nullable String getParameter () {
+    return _parameter;
+  }
+}
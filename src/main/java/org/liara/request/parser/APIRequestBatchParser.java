@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that parse many requests at once with the same parser tree.
+ *
+ * Requests are split into chunks that are parsed concurrently. Inside a chunk, the tree is walked once and each of its
+ * nodes is applied to all requests of the chunk before moving to the next node, instead of walking the whole tree once
+ * per request.
+ *
+ * @param <Output> Output of the parser.
+ */
+public class APIRequestBatchParser<Output>
+{
+  /**
+   * Default number of requests parsed by each task.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 256;
+
+  @NonNull
+  private final APIRequestParser<Output> _parser;
+
+  @NonNull
+  private final Executor _executor;
+
+  private final int _chunkSize;
+
+  /**
+   * Create a new batch parser that runs on the common fork-join pool.
+   *
+   * @param parser A parser tree to apply to each request.
+   */
+  public APIRequestBatchParser (@NonNull final APIRequestParser<Output> parser) {
+    this(parser, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Create a new batch parser.
+   *
+   * @param parser A parser tree to apply to each request.
+   * @param executor An executor to use for parsing each chunk of requests.
+   * @param chunkSize Number of requests parsed by each task, must be strictly positive.
+   */
+  public APIRequestBatchParser (
+    @NonNull final APIRequestParser<Output> parser,
+    @NonNull final Executor executor,
+    final int chunkSize
+  ) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException(
+        "Unable to create a batch parser with a chunk size of " + chunkSize + ", the size must be positive."
+      );
+    }
+
+    _parser = parser;
+    _executor = executor;
+    _chunkSize = chunkSize;
+  }
+
+  /**
+   * Parse the given requests.
+   *
+   * @param requests Requests to parse.
+   *
+   * @return The output of the parser for each given request, in the same order. The list may contain null outputs.
+   */
+  @SuppressWarnings("unchecked")
+  public @NonNull List<Output> parse (@NonNull final List<@NonNull APIRequest> requests) {
+    @NonNull final APIRequest[] batch = requests.toArray(new APIRequest[0]);
+    @NonNull final Object[] outputs = new Object[batch.length];
+
+    if (batch.length <= _chunkSize) {
+      System.arraycopy(parse(_parser, batch), 0, outputs, 0, batch.length);
+    } else {
+      @NonNull final List<@NonNull CompletableFuture<Void>> tasks = new ArrayList<>();
+
+      for (int from = 0; from < batch.length; from += _chunkSize) {
+        final int offset = from;
+        @NonNull final APIRequest[] chunk = Arrays.copyOfRange(batch, from, Math.min(from + _chunkSize, batch.length));
+
+        tasks.add(CompletableFuture.runAsync(
+          () -> System.arraycopy(parse(_parser, chunk), 0, outputs, offset, chunk.length),
+          _executor
+        ));
+      }
+
+      try {
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+      } catch (@NonNull final CompletionException exception) {
+        if (exception.getCause() instanceof RuntimeException) throw (RuntimeException) exception.getCause();
+        if (exception.getCause() instanceof Error) throw (Error) exception.getCause();
+        throw exception;
+      }
+    }
+
+    return (List<Output>) Arrays.asList(outputs);
+  }
+
+  /**
+   * Apply a parser to each request of a chunk.
+   *
+   * @param parser A parser to apply.
+   * @param requests Requests to parse.
+   *
+   * @return The output of the given parser for each request.
+   */
+  @SuppressWarnings("unchecked")
+  private static @NonNull Object[] parse (
+    @NonNull final APIRequestParser<?> parser,
+    @NonNull final APIRequest[] requests
+  ) {
+    @NonNull final Object[] outputs = new Object[requests.length];
+
+    if (parser instanceof AllAPIRequestParser) {
+      @NonNull final List<? extends @NonNull APIRequestParser<?>> parsers = (
+        ((AllAPIRequestParser<?>) parser).getParsers()
+      );
+      @NonNull final Object[][] columns = new Object[parsers.size()][];
+
+      for (int index = 0; index < columns.length; ++index) {
+        columns[index] = parse(parsers.get(index), requests);
+      }
+
+      for (int requestIndex = 0; requestIndex < requests.length; ++requestIndex) {
+        @NonNull final List<@NonNull Object> row = new ArrayList<>(columns.length);
+
+        for (@NonNull final Object[] column : columns) {
+          if (column[requestIndex] != null) row.add(column[requestIndex]);
+        }
+
+        outputs[requestIndex] = row;
+      }
+    } else if (parser instanceof FieldAPIRequestParser) {
+      @NonNull final FieldAPIRequestParser<?> field = (FieldAPIRequestParser<?>) parser;
+      @NonNull final APIRequestFieldParser<?> fieldParser = field.getParser();
+
+      for (int requestIndex = 0; requestIndex < requests.length; ++requestIndex) {
+        @NonNull final APIRequestParameter parameter = requests[requestIndex].getParameter(field.getName());
+        if (parameter.getSize() <= 0) continue;
+
+        @NonNull final List<@NonNull Object> values = new ArrayList<>(parameter.getSize());
+
+        for (@NonNull final String value : parameter) {
+          @Nullable final Object output = fieldParser.parse(value);
+          if (output != null) values.add(output);
+        }
+
+        outputs[requestIndex] = values.isEmpty() ? null : values;
+      }
+    } else if (parser instanceof ChildAPIRequestParser) {
+      @NonNull final ChildAPIRequestParser<?> child = (ChildAPIRequestParser<?>) parser;
+      @NonNull final APIRequest[] children = new APIRequest[requests.length];
+
+      for (int index = 0; index < requests.length; ++index) {
+        children[index] = requests[index].getRequest(child.getName());
+      }
+
+      return parse(child.getParser(), children);
+    } else if (parser instanceof MapAPIRequestParser) {
+      @NonNull final MapAPIRequestParser<?, ?> map = (MapAPIRequestParser<?, ?>) parser;
+      @NonNull final Function<Object, ?> mapper = (Function<Object, ?>) map.getMapper();
+      @NonNull final Object[] inputs = parse(map.getParser(), requests);
+
+      for (int index = 0; index < requests.length; ++index) {
+        outputs[index] = mapper.apply(inputs[index]);
+      }
+    } else if (parser instanceof MapNonNullAPIRequestParser) {
+      @NonNull final MapNonNullAPIRequestParser<?, ?> map = (MapNonNullAPIRequestParser<?, ?>) parser;
+      @NonNull final Function<Object, ?> mapper = (Function<Object, ?>) map.getMapper();
+      @NonNull final Object[] inputs = parse(map.getParser(), requests);
+
+      for (int index = 0; index < requests.length; ++index) {
+        outputs[index] = inputs[index] == null ? null : mapper.apply(inputs[index]);
+      }
+    } else if (parser instanceof OrElseAPIRequestParser) {
+      @NonNull final OrElseAPIRequestParser<?> orElse = (OrElseAPIRequestParser<?>) parser;
+      @NonNull final Object[] inputs = parse(orElse.getParser(), requests);
+
+      for (int index = 0; index < requests.length; ++index) {
+        outputs[index] = inputs[index] == null ? orElse.getDefaultValue() : inputs[index];
+      }
+    } else {
+      for (int index = 0; index < requests.length; ++index) {
+        outputs[index] = parser.parse(requests[index]);
+      }
+    }
+
+    return outputs;
+  }
+}
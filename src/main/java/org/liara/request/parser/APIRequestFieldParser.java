@@ -12,6 +12,22 @@ import org.checkerframework.checker.tainting.qual.Untainted;
 @FunctionalInterface
 public interface APIRequestFieldParser<Output>
 {
+  /**
+   * Return a parser that keep the results of the given parser in a bounded cache shared by all requests.
+   *
+   * @param parser A parser to memoize, its outputs must be immutable.
+   * @param maximumSize The maximum number of results to keep.
+   * @param <Output> Output of the parser.
+   *
+   * @return A memoizing wrapper of the given parser.
+   */
+  static <Output> @NonNull MemoizedAPIRequestFieldParser<Output> memoize (
+    @NonNull final APIRequestFieldParser<Output> parser,
+    final long maximumSize
+  ) {
+    return new MemoizedAPIRequestFieldParser<>(parser, maximumSize);
+  }
+
   /**
    * Parse the given field content and return a result.
    *
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequestValues;
+
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that parse an API request field into primitive long values, without boxing.
+ *
+ * A parser emits its results to a consumer : it may skip a field by not emitting anything, or emit more than one
+ * value for a single field.
+ */
+@FunctionalInterface
+public interface APIRequestLongFieldParser
+{
+  /**
+   * Return a parser that emit the value of each field that is a valid long integer and skip the others.
+   *
+   * @return A parser of long integers.
+   */
+  static @NonNull APIRequestLongFieldParser longInteger () {
+    return (@NonNull final CharSequence field, @NonNull final LongConsumer output) -> {
+      APIRequestValues.parseOptionalLong(field).ifPresent(output);
+    };
+  }
+
+  /**
+   * Return a parser that emit the result of a function for each field.
+   *
+   * @param function A function to apply to each field.
+   *
+   * @return A parser that emit the result of the given function for each field.
+   */
+  static @NonNull APIRequestLongFieldParser of (@NonNull final ToLongFunction<@NonNull CharSequence> function) {
+    return (@NonNull final CharSequence field, @NonNull final LongConsumer output) -> output.accept(
+      function.applyAsLong(field)
+    );
+  }
+
+  /**
+   * Parse the given field content and emit its values.
+   *
+   * @param field A field content to parse.
+   * @param output A consumer of the values of the field.
+   */
+  void parse (@NonNull final CharSequence field, @NonNull final LongConsumer output);
+}
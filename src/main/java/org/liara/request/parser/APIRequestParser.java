@@ -21,11 +21,12 @@
  ******************************************************************************/
 package org.liara.request.parser;
 
+import com.google.common.base.Suppliers;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.liara.request.APIRequest;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
@@ -64,30 +65,63 @@ public interface APIRequestParser<Output>
   static <Output> @NonNull APIRequestParser<List<@NonNull Output>> all (
     @NonNull final List<@NonNull APIRequestParser<Output>> parsers
   ) {
-    @NonNull final List<@NonNull APIRequestParser<Output>> copy = new ArrayList<>(parsers);
+    return new AllAPIRequestParser<>(parsers);
+  }
 
-    return (@NonNull final APIRequest request) -> {
-      @NonNull final List<@NonNull Output> outputs = new ArrayList<>(copy.size());
+  /**
+   * Return a parser that keep the outputs of the given parser in a bounded cache keyed by request content.
+   *
+   * @param parser A parser to cache.
+   * @param maximumSize The maximum number of outputs to keep.
+   * @param expireAfterWrite The duration after which an output is discarded.
+   * @param <Output> Output type of the parser.
+   *
+   * @return A caching wrapper of the given parser.
+   */
+  static <Output> @NonNull CachedAPIRequestParser<Output> cached (
+    @NonNull final APIRequestParser<Output> parser,
+    final long maximumSize,
+    @NonNull final Duration expireAfterWrite
+  ) {
+    return new CachedAPIRequestParser<>(parser, maximumSize, expireAfterWrite);
+  }
 
-      for (@NonNull final APIRequestParser<Output> parser : copy) {
-        @Nullable final Output output = parser.parse(request);
-        if (output != null) outputs.add(output);
-      }
+  static <Output> @NonNull APIRequestParser<Output> factory (
+    @NonNull final Supplier<APIRequestParser<Output>> supplier
+  ) {
+    return new FactoryAPIRequestParser<>(supplier);
+  }
 
-      return outputs;
-    };
+  /**
+   * Return a parser that build another parser on the first non-empty request and reuse it for all further requests.
+   *
+   * The parser is built lazily, so that recursive definitions remain possible. The built parser must be stateless
+   * because it is shared by all threads.
+   *
+   * @param supplier A supplier of parsers, called at most once.
+   * @param <Output> Output of the built parser.
+   *
+   * @return A parser that delegate the parsing of each non-empty request to a single built parser.
+   */
+  static <Output> @NonNull APIRequestParser<Output> cachedFactory (
+    @NonNull final Supplier<APIRequestParser<Output>> supplier
+  ) {
+    return new FactoryAPIRequestParser<>(Suppliers.memoize(supplier::get));
   }
 
-  static <Output> @NonNull APIRequestParser<Output> factory (
+  /**
+   * Return a parser that delegate the parsing of each non-empty request to a parser borrowed from a pool, for stateful
+   * parsers that can't be shared between threads.
+   *
+   * @param supplier A supplier of parsers, called when all pooled parsers are in use.
+   * @param <Output> Output of the pooled parsers.
+   *
+   * @return A parser that delegate the parsing of each non-empty request to a pooled parser.
+   */
+  static <Output> @NonNull APIRequestParser<Output> pooledFactory (
     @NonNull final Supplier<APIRequestParser<Output>> supplier
   ) {
-    return (@NonNull final APIRequest request) -> {
-      if (request.getSize() <= 0) {
-        return null;
-      } else {
-        return supplier.get().parse(request);
-      }
-    };
+    return new PooledAPIRequestParser<>(supplier);
   }
 
   /**
@@ -102,16 +136,67 @@ public interface APIRequestParser<Output>
     @NonNull final String name,
     @NonNull final APIRequestFieldParser<Output> parser
   ) {
-    return (@NonNull final APIRequest request) -> {
-      @NonNull final List<@NonNull Output> outputs = new ArrayList<>(request.getParameter(name).getSize());
+    return new FieldAPIRequestParser<>(name, parser);
+  }
+
+  /**
+   * Return a parser that split each value of an APIRequest field with a delimiter and apply the given parser to each
+   * sub-value, like the comma-separated values of "ids=1,2,3".
+   *
+   * @param name Name of the field to parse.
+   * @param delimiter Delimiter of the sub-values of each value of the given field.
+   * @param parser Parser to apply to each sub-value of the given field.
+   * @param <Output> Output type of the field parser.
+   * @return A parser that apply the given parser to each sub-value of a field and then return the result as a list.
+   */
+  static <Output> @NonNull APIRequestParser<@Nullable List<@NonNull Output>> delimitedField (
+    @NonNull final String name,
+    final char delimiter,
+    @NonNull final APIRequestFieldParser<Output> parser
+  ) {
+    return new DelimitedFieldAPIRequestParser<>(name, delimiter, parser);
+  }
 
-      for (@NonNull final String field : request.getParameter(name)) {
-        @Nullable final Output output = parser.parse(field);
-        if (output != null) outputs.add(output);
-      }
+  /**
+   * Return a parser that apply the given primitive parser to each value of an APIRequest field, without boxing.
+   *
+   * @param name Name of the field to parse.
+   * @param parser Parser to apply to each values of the given field.
+   * @return A parser that return all values emitted by the given parser as an array, or null if nothing was emitted.
+   */
+  static @NonNull APIRequestParser<int @Nullable []> intField (
+    @NonNull final String name,
+    @NonNull final APIRequestIntFieldParser parser
+  ) {
+    return new IntFieldAPIRequestParser(name, parser);
+  }
 
-      return outputs.isEmpty() ? null : outputs;
-    };
+  /**
+   * Return a parser that apply the given primitive parser to each value of an APIRequest field, without boxing.
+   *
+   * @param name Name of the field to parse.
+   * @param parser Parser to apply to each values of the given field.
+   * @return A parser that return all values emitted by the given parser as an array, or null if nothing was emitted.
+   */
+  static @NonNull APIRequestParser<long @Nullable []> longField (
+    @NonNull final String name,
+    @NonNull final APIRequestLongFieldParser parser
+  ) {
+    return new LongFieldAPIRequestParser(name, parser);
+  }
+
+  /**
+   * Return a parser that apply the given primitive parser to each value of an APIRequest field, without boxing.
+   *
+   * @param name Name of the field to parse.
+   * @param parser Parser to apply to each values of the given field.
+   * @return A parser that return all values emitted by the given parser as an array, or null if nothing was emitted.
+   */
+  static @NonNull APIRequestParser<double @Nullable []> doubleField (
+    @NonNull final String name,
+    @NonNull final APIRequestDoubleFieldParser parser
+  ) {
+    return new DoubleFieldAPIRequestParser(name, parser);
   }
 
   /**
@@ -126,7 +211,7 @@ public interface APIRequestParser<Output>
     @NonNull final String name,
     @NonNull final APIRequestParser<Output> parser
   ) {
-    return (@NonNull final APIRequest request) -> parser.parse(request.getRequest(name));
+    return new ChildAPIRequestParser<>(name, parser);
   }
 
   /**
@@ -147,7 +232,7 @@ public interface APIRequestParser<Output>
   default <NextOutput> @NonNull APIRequestParser<NextOutput> map (
     @NonNull final Function<Output, NextOutput> mapper
   ) {
-    return (@NonNull final APIRequest request) -> mapper.apply(parse(request));
+    return new MapAPIRequestParser<>(this, mapper);
   }
 
   /**
@@ -160,10 +245,7 @@ public interface APIRequestParser<Output>
   default <NextOutput> @NonNull APIRequestParser<NextOutput> mapNonNull (
     @NonNull final Function<@NonNull Output, NextOutput> mapper
   ) {
-    return (@NonNull final APIRequest request) -> {
-      @Nullable final Output output = parse(request);
-      return output == null ? null : mapper.apply(output);
-    };
+    return new MapNonNullAPIRequestParser<>(this, mapper);
   }
 
   /**
@@ -173,9 +255,6 @@ public interface APIRequestParser<Output>
    * @return A parser that returns a default value if this one return null.
    */
   default @NonNull APIRequestParser<@NonNull Output> orElse (@NonNull final Output defaultValue) {
-    return (@NonNull final APIRequest request) -> {
-      @Nullable final Output output = parse(request);
-      return output == null ? defaultValue : output;
-    };
+    return new OrElseAPIRequestParser<>(this, defaultValue);
   }
 }
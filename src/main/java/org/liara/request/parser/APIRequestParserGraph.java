@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.ChildAPIRequest;
+
+import java.util.*;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A set of parsers that share their structurally equal sub-parsers.
+ *
+ * Parsers added to a graph builder are rebuilt bottom-up and each sub-parser is replaced by the first structurally
+ * equal sub-parser already registered, parsers being compared with their equals method. Field parsers, mappers and
+ * other functions are compared with their own equals method, usually their identity : reuse the same instances in
+ * order to share the parsers that use them.
+ *
+ * During a parse of the graph, each shared sub-parser is evaluated at most once per request, including child
+ * requests, and its output is reused by all its consumers. Child requests are identified by their root request and
+ * their prefix, so distinct child views of the same child request share their outputs, whatever the implementation of
+ * the root request. A graph is immutable and can be parsed concurrently.
+ */
+public final class APIRequestParserGraph
+{
+  /**
+   * Marker of memoized null outputs.
+   */
+  @NonNull
+  private static final Object NULL = new Object();
+
+  /**
+   * Outputs of the shared parsers evaluated by the current parse of the current thread.
+   */
+  @NonNull
+  private static final ThreadLocal<@Nullable Context> CONTEXT = new ThreadLocal<>();
+
+  /**
+   * Return a new empty graph builder.
+   *
+   * @return A new empty graph builder.
+   */
+  public static @NonNull Builder builder () {
+    return new Builder();
+  }
+
+  @NonNull
+  private final Object _owner;
+
+  @NonNull
+  private final APIRequestParser<?>[] _roots;
+
+  @NonNegative
+  private final int _nodes;
+
+  private APIRequestParserGraph (
+    @NonNull final Object owner,
+    @NonNull final List<@NonNull APIRequestParser<?>> roots,
+    @NonNegative final int nodes
+  ) {
+    _owner = owner;
+    _roots = roots.toArray(new APIRequestParser<?>[0]);
+    _nodes = nodes;
+  }
+
+  /**
+   * Parse a request with all parsers of this graph, evaluating each shared sub-parser at most once.
+   *
+   * @param request A request to parse.
+   *
+   * @return The outputs of all parsers of this graph.
+   */
+  public @NonNull Result parse (@NonNull final APIRequest request) {
+    @Nullable final Context previous = CONTEXT.get();
+    CONTEXT.set(new Context());
+
+    try {
+      @NonNull final Object[] outputs = new Object[_roots.length];
+
+      for (int index = 0; index < _roots.length; ++index) {
+        outputs[index] = _roots[index].parse(request);
+      }
+
+      return new Result(_owner, outputs);
+    } finally {
+      if (previous == null) {
+        CONTEXT.remove();
+      } else {
+        CONTEXT.set(previous);
+      }
+    }
+  }
+
+  /**
+   * Return the number of parsers of this graph.
+   *
+   * @return The number of parsers of this graph.
+   */
+  public @NonNegative int getSize () {
+    return _roots.length;
+  }
+
+  /**
+   * Return the number of distinct shared sub-parsers of this graph.
+   *
+   * @return The number of distinct shared sub-parsers of this graph.
+   */
+  public @NonNegative int getNodeCount () {
+    return _nodes;
+  }
+
+  /**
+   * Evaluate a shared parser, or return its output if it was already evaluated for the same request, or the same child
+   * of the same root request, during the current parse.
+   *
+   * @param parser A shared parser to evaluate.
+   * @param request A request to parse.
+   * @param <Output> Output type of the parser.
+   *
+   * @return The output of the given parser.
+   */
+  @SuppressWarnings("unchecked")
+  static <Output> Output evaluate (
+    @NonNull final SharedAPIRequestParser<Output> parser,
+    @NonNull final APIRequest request
+  ) {
+    @Nullable final Context context = CONTEXT.get();
+    if (context == null) return parser.compute(request);
+
+    @NonNull final Map<@NonNull Object, @NonNull Object> outputs = context.getOutputs(request);
+
+    @Nullable final Object memoized = outputs.get(parser);
+    if (memoized != null) return memoized == NULL ? null : (Output) memoized;
+
+    @Nullable final Output result = parser.compute(request);
+    outputs.put(parser, result == null ? NULL : result);
+
+    return result;
+  }
+
+  /**
+   * The outputs of the shared parsers evaluated during a parse, by root request, by prefix and by parser.
+   */
+  private static final class Context
+  {
+    @NonNull
+    private final Map<
+      @NonNull APIRequest, @NonNull Map<@NonNull String, @NonNull Map<@NonNull Object, @NonNull Object>>
+    > _outputs;
+
+    private Context () {
+      _outputs = new IdentityHashMap<>();
+    }
+
+    /**
+     * Return the outputs evaluated for a request, child requests being identified by their root request and their
+     * prefix.
+     *
+     * @param request A request.
+     *
+     * @return The outputs of the shared parsers evaluated for the given request, by parser.
+     */
+    @NonNull Map<@NonNull Object, @NonNull Object> getOutputs (@NonNull final APIRequest request) {
+      @NonNull APIRequest root = request;
+      @NonNull String prefix = "";
+
+      while (root instanceof ChildAPIRequest) {
+        @NonNull final ChildAPIRequest child = (ChildAPIRequest) root;
+        prefix = child.getPrefix() + prefix;
+        root = child.getParent();
+      }
+
+      return _outputs.computeIfAbsent(root, key -> new HashMap<>())
+                     .computeIfAbsent(prefix, key -> new IdentityHashMap<>());
+    }
+  }
+
+  /**
+   * A reference to a parser added to a graph, used to read its output from the result of a parse.
+   *
+   * @param <Output> Output type of the parser.
+   */
+  public static final class Handle<Output>
+  {
+    @NonNull
+    private final Object _owner;
+
+    @NonNegative
+    private final int _index;
+
+    @NonNull
+    private final APIRequestParser<Output> _parser;
+
+    private Handle (
+      @NonNull final Object owner,
+      @NonNegative final int index,
+      @NonNull final APIRequestParser<Output> parser
+    ) {
+      _owner = owner;
+      _index = index;
+      _parser = parser;
+    }
+
+    /**
+     * Return the shared parser of this handle, that can also be used outside of its graph.
+     *
+     * @return The shared parser of this handle.
+     */
+    public @NonNull APIRequestParser<Output> getParser () {
+      return _parser;
+    }
+  }
+
+  /**
+   * The outputs of all parsers of a graph for a request.
+   */
+  public static final class Result
+  {
+    @NonNull
+    private final Object _owner;
+
+    @NonNull
+    private final Object[] _outputs;
+
+    private Result (@NonNull final Object owner, @NonNull final Object[] outputs) {
+      _owner = owner;
+      _outputs = outputs;
+    }
+
+    /**
+     * Return the output of a parser of the graph.
+     *
+     * @param handle The handle returned when the parser was added to the graph.
+     * @param <Output> Output type of the parser.
+     *
+     * @return The output of the given parser.
+     *
+     * @throws IllegalArgumentException If the handle does not belong to the graph or was added after the graph was
+     *                                  built.
+     */
+    @SuppressWarnings("unchecked")
+    public <Output> Output get (@NonNull final Handle<Output> handle) {
+      if (handle._owner != _owner || handle._index >= _outputs.length) {
+        throw new IllegalArgumentException("The given handle does not belong to the parsed graph.");
+      }
+
+      return (Output) _outputs[handle._index];
+    }
+  }
+
+  /**
+   * A mutable builder of parser graphs, not thread-safe.
+   */
+  public static final class Builder
+  {
+    @NonNull
+    private final Object _owner;
+
+    @NonNull
+    private final List<@NonNull APIRequestParser<?>> _roots;
+
+    @NonNull
+    private final Map<@NonNull APIRequestParser<?>, @NonNull SharedAPIRequestParser<?>> _nodes;
+
+    private Builder () {
+      _owner = new Object();
+      _roots = new ArrayList<>();
+      _nodes = new HashMap<>();
+    }
+
+    /**
+     * Add a parser to the graph.
+     *
+     * @param parser A parser to add.
+     * @param <Output> Output type of the parser.
+     *
+     * @return A handle that identify the output of the given parser in the results of the graph.
+     */
+    public <Output> @NonNull Handle<Output> add (@NonNull final APIRequestParser<Output> parser) {
+      @NonNull final APIRequestParser<Output> root = share(parser);
+      _roots.add(root);
+      return new Handle<>(_owner, _roots.size() - 1, root);
+    }
+
+    /**
+     * Return a graph with all parsers added so far.
+     *
+     * @return A graph with all parsers added so far.
+     */
+    public @NonNull APIRequestParserGraph build () {
+      return new APIRequestParserGraph(_owner, _roots, _nodes.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Output> @NonNull APIRequestParser<Output> share (@NonNull final APIRequestParser<Output> parser) {
+      if (parser instanceof SharedAPIRequestParser) return parser;
+
+      @NonNull final APIRequestParser<Output> node = rebuild(parser);
+      @Nullable final SharedAPIRequestParser<?> existing = _nodes.get(node);
+      if (existing != null) return (APIRequestParser<Output>) existing;
+
+      @NonNull final SharedAPIRequestParser<Output> result = new SharedAPIRequestParser<>(node);
+      _nodes.put(node, result);
+      return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Output> @NonNull APIRequestParser<Output> rebuild (@NonNull final APIRequestParser<Output> parser) {
+      if (parser instanceof AllAPIRequestParser) {
+        return (APIRequestParser<Output>) rebuildAll((AllAPIRequestParser<?>) parser);
+      } else if (parser instanceof ChildAPIRequestParser) {
+        @NonNull final ChildAPIRequestParser<Output> child = (ChildAPIRequestParser<Output>) parser;
+        return new ChildAPIRequestParser<>(child.getName(), share(child.getParser()));
+      } else if (parser instanceof MapAPIRequestParser) {
+        return rebuildMap((MapAPIRequestParser<?, Output>) parser);
+      } else if (parser instanceof MapNonNullAPIRequestParser) {
+        return rebuildMapNonNull((MapNonNullAPIRequestParser<?, Output>) parser);
+      } else if (parser instanceof OrElseAPIRequestParser) {
+        @NonNull final OrElseAPIRequestParser<Output> orElse = (OrElseAPIRequestParser<Output>) parser;
+        return new OrElseAPIRequestParser<>(share(orElse.getParser()), orElse.getDefaultValue());
+      } else {
+        return parser;
+      }
+    }
+
+    private <Output> @NonNull APIRequestParser<List<@NonNull Output>> rebuildAll (
+      @NonNull final AllAPIRequestParser<Output> parser
+    ) {
+      @NonNull final List<@NonNull APIRequestParser<Output>> parsers = new ArrayList<>(parser.getParsers().size());
+
+      for (@NonNull final APIRequestParser<Output> child : parser.getParsers()) {
+        parsers.add(share(child));
+      }
+
+      return new AllAPIRequestParser<>(parsers);
+    }
+
+    private <Input, Output> @NonNull APIRequestParser<Output> rebuildMap (
+      @NonNull final MapAPIRequestParser<Input, Output> parser
+    ) {
+      return new MapAPIRequestParser<>(share(parser.getParser()), parser.getMapper());
+    }
+
+    private <Input, Output> @NonNull APIRequestParser<Output> rebuildMapNonNull (
+      @NonNull final MapNonNullAPIRequestParser<Input, Output> parser
+    ) {
+      return new MapNonNullAPIRequestParser<>(share(parser.getParser()), parser.getMapper());
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that apply a list of parsers in order and return their non-null results as a list.
+ *
+ * @param <Output> Output type of each composed parser.
+ */
+public class AllAPIRequestParser<Output> implements APIRequestParser<List<@NonNull Output>>
+{
+  @NonNull
+  private final List<@NonNull APIRequestParser<Output>> _parsers;
+
+  /**
+   * Create a new parser that apply the given parsers in order.
+   *
+   * @param parsers Parsers to apply, the list is copied.
+   */
+  public AllAPIRequestParser (@NonNull final List<@NonNull APIRequestParser<Output>> parsers) {
+    _parsers = Collections.unmodifiableList(new ArrayList<>(parsers));
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public @NonNull List<@NonNull Output> parse (@NonNull final APIRequest request) {
+    @NonNull final List<@NonNull Output> outputs = new ArrayList<>(_parsers.size());
+
+    for (@NonNull final APIRequestParser<Output> parser : _parsers) {
+      @Nullable final Output output = parser.parse(request);
+      if (output != null) outputs.add(output);
+    }
+
+    return outputs;
+  }
+
+  /**
+   * Return the parsers applied by this parser.
+   *
+   * @return An unmodifiable list of the parsers applied by this parser.
+   */
+  public @NonNull List<@NonNull APIRequestParser<Output>> getParsers () {
+    return _parsers;
+  }
+
+  /**
+   * Check if another object is a parser with the same structure, leaves and functions being compared with their own
+   * equals method.
+   *
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof AllAPIRequestParser) {
+      @NonNull final AllAPIRequestParser<?> otherParser = (AllAPIRequestParser<?>) other;
+
+      return Objects.equals(_parsers, otherParser.getParsers());
+    }
+
+    return false;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode () {
+    return Objects.hash(_parsers);
+  }
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.tainting.qual.Untainted;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ * @param <Output>
+ *
+ * An object that parse an api request field without blocking.
+ */
+@FunctionalInterface
+public interface AsyncAPIRequestFieldParser<Output>
+{
+  /**
+   * Return an asynchronous parser that complete immediately with the result of a synchronous one.
+   *
+   * @param parser A synchronous parser to lift.
+   * @param <Output> Output type of the parser.
+   *
+   * @return An asynchronous parser that complete immediately with the result of the given parser, or with its
+   *         exception.
+   */
+  static <Output> @NonNull AsyncAPIRequestFieldParser<Output> of (@NonNull final APIRequestFieldParser<Output> parser) {
+    return (@NonNull final String field) -> {
+      try {
+        return CompletableFuture.completedFuture(parser.parse(field));
+      } catch (@NonNull final RuntimeException exception) {
+        return CompletableFuture.failedFuture(exception);
+      }
+    };
+  }
+
+  /**
+   * Parse the given field content.
+   *
+   * @param field A valid field content to parse.
+   *
+   * @return A stage that complete with the result of the given operation on the field content.
+   */
+  @NonNull CompletionStage<Output> parse (@NonNull @Untainted final String field);
+}
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that parse an APIRequest without blocking and output some result.
+ *
+ * @param <Output> Output of the parser.
+ */
+@FunctionalInterface
+public interface AsyncAPIRequestParser<Output>
+{
+  /**
+   * Return an asynchronous parser that complete immediately with the result of a synchronous one.
+   *
+   * @param parser A synchronous parser to lift.
+   * @param <Output> Output type of the parser.
+   *
+   * @return An asynchronous parser that complete immediately with the result of the given parser, or with its
+   *         exception.
+   */
+  static <Output> @NonNull AsyncAPIRequestParser<Output> of (@NonNull final APIRequestParser<Output> parser) {
+    return (@NonNull final APIRequest request) -> {
+      try {
+        return CompletableFuture.completedFuture(parser.parse(request));
+      } catch (@NonNull final RuntimeException exception) {
+        return CompletableFuture.failedFuture(exception);
+      }
+    };
+  }
+
+  /**
+   * Return a parser that start the given parsers and return their result as a list, in order.
+   *
+   * @param parsers Parsers to pack.
+   * @param <Output> Output type of each composed parser.
+   * @return A parser that apply given parsers and return their result as a list.
+   */
+  @SafeVarargs
+  static <Output> @NonNull AsyncAPIRequestParser<List<@NonNull Output>> all (
+    @NonNull final AsyncAPIRequestParser<Output> ...parsers
+  ) {
+    return all(Arrays.asList(parsers));
+  }
+
+  /**
+   * Return a parser that start the given parsers and return their result as a list, in order.
+   *
+   * @param parsers Parsers to pack.
+   * @param <Output> Output type of each composed parser.
+   * @return A parser that apply given parsers and return their result as a list.
+   */
+  static <Output> @NonNull AsyncAPIRequestParser<List<@NonNull Output>> all (
+    @NonNull final List<@NonNull AsyncAPIRequestParser<Output>> parsers
+  ) {
+    @NonNull final List<@NonNull AsyncAPIRequestParser<Output>> copy = new ArrayList<>(parsers);
+
+    return (@NonNull final APIRequest request) -> {
+      @NonNull final List<@NonNull CompletableFuture<Output>> stages = new ArrayList<>(copy.size());
+
+      for (@NonNull final AsyncAPIRequestParser<Output> parser : copy) {
+        try {
+          stages.add(parser.parse(request).toCompletableFuture());
+        } catch (@NonNull final RuntimeException exception) {
+          stages.add(CompletableFuture.failedFuture(exception));
+        }
+      }
+
+      return CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0])).thenApply(
+        (@NonNull final Void ignored) -> collect(stages)
+      );
+    };
+  }
+
+  /**
+   * Return a parser that apply the given parser to each value of an APIRequest field.
+   *
+   * @param name Name of the field to parse.
+   * @param parser Parser to apply to each values of the given field.
+   * @param <Output> Output type of the field parser.
+   * @return A parser that apply the given parser to each fields of its given query and then return the result as a list.
+   */
+  static <Output> @NonNull AsyncAPIRequestParser<@Nullable List<@NonNull Output>> field (
+    @NonNull final String name,
+    @NonNull final AsyncAPIRequestFieldParser<Output> parser
+  ) {
+    return (@NonNull final APIRequest request) -> {
+      @NonNull final APIRequestParameter parameter = request.getParameter(name);
+      @NonNull final List<@NonNull CompletableFuture<Output>> stages = new ArrayList<>(parameter.getSize());
+
+      for (@NonNull final String field : parameter) {
+        try {
+          stages.add(parser.parse(field).toCompletableFuture());
+        } catch (@NonNull final RuntimeException exception) {
+          stages.add(CompletableFuture.failedFuture(exception));
+        }
+      }
+
+      return CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0])).thenApply(
+        (@NonNull final Void ignored) -> {
+          @NonNull final List<@NonNull Output> outputs = collect(stages);
+          return outputs.isEmpty() ? null : outputs;
+        }
+      );
+    };
+  }
+
+  /**
+   * Return a parser that apply the given parser to a child request of its given request.
+   *
+   * @param name Name of the child request.
+   * @param parser A parser to apply to the child request.
+   * @param <Output> Output of the child parser.
+   * @return A parser that apply the given parser to a child request of its given request.
+   */
+  static <Output> @NonNull AsyncAPIRequestParser<Output> childRequest (
+    @NonNull final String name,
+    @NonNull final AsyncAPIRequestParser<Output> parser
+  ) {
+    return (@NonNull final APIRequest request) -> parser.parse(request.getRequest(name));
+  }
+
+  /**
+   * Return the non-null results of some completed stages, in order.
+   *
+   * @param stages Completed stages.
+   * @param <Output> Output type of each stage.
+   * @return The non-null results of the given stages, in order.
+   */
+  private static <Output> @NonNull List<@NonNull Output> collect (
+    @NonNull final List<@NonNull CompletableFuture<Output>> stages
+  ) {
+    @NonNull final List<@NonNull Output> outputs = new ArrayList<>(stages.size());
+
+    for (@NonNull final CompletableFuture<Output> stage : stages) {
+      @Nullable final Output output = stage.join();
+      if (output != null) outputs.add(output);
+    }
+
+    return outputs;
+  }
+
+  /**
+   * Parse the given request.
+   *
+   * @param request The request to parse.
+   * @return A stage that complete with the result of the parse operation.
+   */
+  @NonNull CompletionStage<Output> parse (@NonNull final APIRequest request);
+
+  /**
+   * Apply an operation on the output of this parser.
+   *
+   * @param mapper An operation to apply to the output of this parser.
+   * @param <NextOutput> The operation output type.
+   * @return An AsyncAPIRequestParser that is the result of this parser transformed by the given operation.
+   */
+  default <NextOutput> @NonNull AsyncAPIRequestParser<NextOutput> map (
+    @NonNull final Function<Output, NextOutput> mapper
+  ) {
+    return (@NonNull final APIRequest request) -> parse(request).thenApply(mapper);
+  }
+
+  /**
+   * Like a map but does not call the given mapper and return null if the result of this parser is null.
+   *
+   * @param mapper An operation to apply to the output of this parser.
+   * @param <NextOutput> The operation output type.
+   * @return An AsyncAPIRequestParser that is the result of this parser transformed by the given operation.
+   */
+  default <NextOutput> @NonNull AsyncAPIRequestParser<NextOutput> mapNonNull (
+    @NonNull final Function<@NonNull Output, NextOutput> mapper
+  ) {
+    return (@NonNull final APIRequest request) -> parse(request).thenApply(
+      (@Nullable final Output output) -> output == null ? null : mapper.apply(output)
+    );
+  }
+
+  /**
+   * Return a parser that returns a default value if this one return null.
+   *
+   * @param defaultValue A value to return if this parser returns null.
+   * @return A parser that returns a default value if this one return null.
+   */
+  default @NonNull AsyncAPIRequestParser<@NonNull Output> orElse (@NonNull final Output defaultValue) {
+    return (@NonNull final APIRequest request) -> parse(request).thenApply(
+      (@Nullable final Output output) -> output == null ? defaultValue : output
+    );
+  }
+}
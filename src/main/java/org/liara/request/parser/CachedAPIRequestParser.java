@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestContent;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that keep the outputs of another parser in a bounded cache keyed by request content.
+ *
+ * Requests with the same parameters and values share the same cached output, whatever their implementation. Outputs
+ * are shared between calls and must therefore not be modified. The least recently used outputs are evicted first, and
+ * all outputs expire after a given duration.
+ *
+ * @param <Output> Output type of the cached parser.
+ */
+public class CachedAPIRequestParser<Output> implements APIRequestParser<Output>
+{
+  @NonNull
+  private final APIRequestParser<Output> _parser;
+
+  @NonNull
+  private final Cache<@NonNull APIRequest, @NonNull Optional<Output>> _cache;
+
+  /**
+   * Create a new caching wrapper of a parser.
+   *
+   * @param parser A parser to cache.
+   * @param maximumSize The maximum number of outputs to keep.
+   * @param expireAfterWrite The duration after which an output is discarded.
+   */
+  public CachedAPIRequestParser (
+    @NonNull final APIRequestParser<Output> parser,
+    final long maximumSize,
+    @NonNull final Duration expireAfterWrite
+  ) {
+    _parser = parser;
+    _cache = CacheBuilder.newBuilder()
+                         .maximumSize(maximumSize)
+                         .expireAfterWrite(expireAfterWrite.toNanos(), TimeUnit.NANOSECONDS)
+                         .recordStats()
+                         .build();
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public Output parse (@NonNull final APIRequest request) {
+    @Nullable Optional<Output> result = _cache.getIfPresent(request);
+
+    if (result == null) {
+      result = Optional.ofNullable(_parser.parse(request));
+      _cache.put(APIRequestContent.toImmutable(request), result);
+    }
+
+    return result.orElse(null);
+  }
+
+  /**
+   * Return the cached parser.
+   *
+   * @return The cached parser.
+   */
+  public @NonNull APIRequestParser<Output> getParser () {
+    return _parser;
+  }
+
+  /**
+   * Return the hit and miss statistics of the cache.
+   *
+   * @return A snapshot of the statistics of the cache.
+   */
+  public @NonNull CacheStats getStatistics () {
+    return _cache.stats();
+  }
+
+  /**
+   * Discard all cached outputs.
+   */
+  public void clear () {
+    _cache.invalidateAll();
+  }
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that apply a primitive field parser to each value of a field and return all emitted values as an array, or
+ * null if no value was emitted.
+ */
+public class DoubleFieldAPIRequestParser implements APIRequestParser<double @Nullable []>
+{
+  @NonNull
+  private static final double[] EMPTY = new double[0];
+
+  @NonNull
+  private final String _name;
+
+  @NonNull
+  private final APIRequestDoubleFieldParser _parser;
+
+  /**
+   * Create a new parser that apply a primitive field parser to each value of a field.
+   *
+   * @param name Name of the field to parse.
+   * @param parser Parser to apply to each values of the given field.
+   */
+  public DoubleFieldAPIRequestParser (
+    @NonNull final String name,
+    @NonNull final APIRequestDoubleFieldParser parser
+  ) {
+    _name = name;
+    _parser = parser;
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public double @Nullable [] parse (@NonNull final APIRequest request) {
+    @NonNull final APIRequestParameter parameter = request.getParameter(_name);
+    if (parameter.getSize() <= 0) return null;
+
+    @NonNull final Values values = new Values(parameter.getSize());
+
+    for (int index = 0; index < parameter.getSize(); ++index) {
+      @Nullable final CharSequence field = parameter.getCharacters(index);
+      if (field != null) _parser.parse(field, values);
+    }
+
+    return values.toArray();
+  }
+
+  /**
+   * Return the name of the parsed field.
+   *
+   * @return The name of the parsed field.
+   */
+  public @NonNull String getName () {
+    return _name;
+  }
+
+  /**
+   * Return the parser applied to each value of the field.
+   *
+   * @return The parser applied to each value of the field.
+   */
+  public @NonNull APIRequestDoubleFieldParser getParser () {
+    return _parser;
+  }
+
+  /**
+   * Check if another object is a parser with the same structure, leaves and functions being compared with their own
+   * equals method.
+   *
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof DoubleFieldAPIRequestParser) {
+      @NonNull final DoubleFieldAPIRequestParser otherParser = (DoubleFieldAPIRequestParser) other;
+
+      return Objects.equals(_name, otherParser.getName()) &&
+             Objects.equals(_parser, otherParser.getParser());
+    }
+
+    return false;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode () {
+    return Objects.hash(_name, _parser);
+  }
+
+  /**
+   * A growable array of the values emitted during a parse, sized for one value per field.
+   */
+  private static final class Values implements DoubleConsumer
+  {
+    @NonNull
+    private double[] _values;
+
+    private int _size;
+
+    Values (final int capacity) {
+      _values = capacity > 0 ? new double[capacity] : EMPTY;
+      _size = 0;
+    }
+
+    @Override
+    public void accept (final double value) {
+      if (_size >= _values.length) _values = Arrays.copyOf(_values, Math.max(4, _values.length * 2));
+      _values[_size++] = value;
+    }
+
+    double @Nullable [] toArray () {
+      if (_size <= 0) return null;
+      return _size == _values.length ? _values : Arrays.copyOf(_values, _size);
+    }
+  }
+}
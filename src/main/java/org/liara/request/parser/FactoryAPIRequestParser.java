@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that build another parser for each non-empty request and delegate the parsing to it. Empty requests are
+ * parsed as null.
+ *
+ * @param <Output> Output of the built parsers.
+ */
+public class FactoryAPIRequestParser<Output> implements APIRequestParser<Output>
+{
+  @NonNull
+  private final Supplier<APIRequestParser<Output>> _supplier;
+
+  /**
+   * Create a new parser that delegate the parsing of each non-empty request to a new parser.
+   *
+   * @param supplier A supplier of parsers.
+   */
+  public FactoryAPIRequestParser (@NonNull final Supplier<APIRequestParser<Output>> supplier) {
+    _supplier = supplier;
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public Output parse (@NonNull final APIRequest request) {
+    if (request.getSize() <= 0) {
+      return null;
+    } else {
+      return _supplier.get().parse(request);
+    }
+  }
+
+  /**
+   * Return the supplier of parsers used by this parser.
+   *
+   * @return The supplier of parsers used by this parser.
+   */
+  public @NonNull Supplier<APIRequestParser<Output>> getSupplier () {
+    return _supplier;
+  }
+
+  /**
+   * Check if another object is a parser with the same structure, leaves and functions being compared with their own
+   * equals method.
+   *
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof FactoryAPIRequestParser) {
+      @NonNull final FactoryAPIRequestParser<?> otherParser = (FactoryAPIRequestParser<?>) other;
+
+      return Objects.equals(_supplier, otherParser.getSupplier());
+    }
+
+    return false;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode () {
+    return Objects.hash(_supplier);
+  }
+}
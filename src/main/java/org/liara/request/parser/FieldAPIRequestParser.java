@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that apply a field parser to each value of a field and return the non-null results as a list, or null if
+ * there is no such result.
+ *
+ * @param <Output> Output type of the field parser.
+ */
+public class FieldAPIRequestParser<Output> implements APIRequestParser<@Nullable List<@NonNull Output>>
+{
+  @NonNull
+  private final String _name;
+
+  @NonNull
+  private final APIRequestFieldParser<Output> _parser;
+
+  /**
+   * Create a new parser that apply a field parser to each value of a field.
+   *
+   * @param name Name of the field to parse.
+   * @param parser Parser to apply to each values of the given field.
+   */
+  public FieldAPIRequestParser (
+    @NonNull final String name,
+    @NonNull final APIRequestFieldParser<Output> parser
+  ) {
+    _name = name;
+    _parser = parser;
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public @Nullable List<@NonNull Output> parse (@NonNull final APIRequest request) {
+    @NonNull final APIRequestParameter parameter = request.getParameter(_name);
+    @NonNull final List<@NonNull Output> outputs = new ArrayList<>(parameter.getSize());
+
+    for (@NonNull final String field : parameter) {
+      @Nullable final Output output = _parser.parse(field);
+      if (output != null) outputs.add(output);
+    }
+
+    return outputs.isEmpty() ? null : outputs;
+  }
+
+  /**
+   * Return the name of the parsed field.
+   *
+   * @return The name of the parsed field.
+   */
+  public @NonNull String getName () {
+    return _name;
+  }
+
+  /**
+   * Return the parser applied to each value of the field.
+   *
+   * @return The parser applied to each value of the field.
+   */
+  public @NonNull APIRequestFieldParser<Output> getParser () {
+    return _parser;
+  }
+
+  /**
+   * Check if another object is a parser with the same structure, leaves and functions being compared with their own
+   * equals method.
+   *
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof FieldAPIRequestParser) {
+      @NonNull final FieldAPIRequestParser<?> otherParser = (FieldAPIRequestParser<?>) other;
+
+      return Objects.equals(_name, otherParser.getName()) &&
+             Objects.equals(_parser, otherParser.getParser());
+    }
+
+    return false;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode () {
+    return Objects.hash(_name, _parser);
+  }
+}
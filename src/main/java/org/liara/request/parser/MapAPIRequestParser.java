@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that apply an operation on the output of another parser.
+ *
+ * @param <Input> Output type of the mapped parser.
+ * @param <Output> Output type of the operation.
+ */
+public class MapAPIRequestParser<Input, Output> implements APIRequestParser<Output>
+{
+  @NonNull
+  private final APIRequestParser<Input> _parser;
+
+  @NonNull
+  private final Function<Input, Output> _mapper;
+
+  /**
+   * Create a new parser that apply an operation on the output of another parser.
+   *
+   * @param parser A parser to map.
+   * @param mapper An operation to apply to the output of the given parser.
+   */
+  public MapAPIRequestParser (
+    @NonNull final APIRequestParser<Input> parser,
+    @NonNull final Function<Input, Output> mapper
+  ) {
+    _parser = parser;
+    _mapper = mapper;
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public Output parse (@NonNull final APIRequest request) {
+    return _mapper.apply(_parser.parse(request));
+  }
+
+  /**
+   * Return the mapped parser.
+   *
+   * @return The mapped parser.
+   */
+  public @NonNull APIRequestParser<Input> getParser () {
+    return _parser;
+  }
+
+  /**
+   * Return the operation applied to the output of the mapped parser.
+   *
+   * @return The operation applied to the output of the mapped parser.
+   */
+  public @NonNull Function<Input, Output> getMapper () {
+    return _mapper;
+  }
+
+  /**
+   * Check if another object is a parser with the same structure, leaves and functions being compared with their own
+   * equals method.
+   *
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof MapAPIRequestParser) {
+      @NonNull final MapAPIRequestParser<?, ?> otherParser = (MapAPIRequestParser<?, ?>) other;
+
+      return Objects.equals(_parser, otherParser.getParser()) &&
+             Objects.equals(_mapper, otherParser.getMapper());
+    }
+
+    return false;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode () {
+    return Objects.hash(_parser, _mapper);
+  }
+}
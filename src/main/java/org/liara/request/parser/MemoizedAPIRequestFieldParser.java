@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.checker.tainting.qual.Untainted;
+
+import java.util.Optional;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A field parser that keep the results of another field parser in a bounded cache shared by all requests.
+ *
+ * The least recently used results are evicted first. Outputs are shared between all calls with the same field content
+ * and must therefore be immutable. Exceptions thrown by the memoized parser are propagated as is and nothing is cached
+ * for the failing field.
+ *
+ * @param <Output> Output of the parser.
+ */
+public class MemoizedAPIRequestFieldParser<Output> implements APIRequestFieldParser<Output>
+{
+  @NonNull
+  private final APIRequestFieldParser<Output> _parser;
+
+  @NonNull
+  private final Cache<@NonNull String, @NonNull Optional<Output>> _cache;
+
+  /**
+   * Create a new memoizing wrapper of a field parser.
+   *
+   * @param parser A parser to memoize.
+   * @param maximumSize The maximum number of results to keep.
+   */
+  public MemoizedAPIRequestFieldParser (@NonNull final APIRequestFieldParser<Output> parser, final long maximumSize) {
+    _parser = parser;
+    _cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+  }
+
+  /**
+   * @see APIRequestFieldParser#parse(String)
+   */
+  @Override
+  public Output parse (@NonNull @Untainted final String field) {
+    @Nullable Optional<Output> result = _cache.getIfPresent(field);
+
+    if (result == null) {
+      result = Optional.ofNullable(_parser.parse(field));
+      _cache.put(field, result);
+    }
+
+    return result.orElse(null);
+  }
+
+  /**
+   * Return the memoized parser.
+   *
+   * @return The memoized parser.
+   */
+  public @NonNull APIRequestFieldParser<Output> getParser () {
+    return _parser;
+  }
+
+  /**
+   * Return the hit and miss statistics of the cache.
+   *
+   * @return A snapshot of the statistics of the cache.
+   */
+  public @NonNull CacheStats getStatistics () {
+    return _cache.stats();
+  }
+
+  /**
+   * Discard all cached results.
+   */
+  public void clear () {
+    _cache.invalidateAll();
+  }
+}
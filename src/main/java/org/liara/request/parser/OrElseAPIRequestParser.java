@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+
+import java.util.Objects;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that returns a default value if another parser return null.
+ *
+ * @param <Output> Output type of the parser.
+ */
+public class OrElseAPIRequestParser<Output> implements APIRequestParser<@NonNull Output>
+{
+  @NonNull
+  private final APIRequestParser<Output> _parser;
+
+  @NonNull
+  private final Output _defaultValue;
+
+  /**
+   * Create a new parser that returns a default value if another parser return null.
+   *
+   * @param parser A parser to call.
+   * @param defaultValue A value to return if the given parser returns null.
+   */
+  public OrElseAPIRequestParser (
+    @NonNull final APIRequestParser<Output> parser,
+    @NonNull final Output defaultValue
+  ) {
+    _parser = parser;
+    _defaultValue = defaultValue;
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public @NonNull Output parse (@NonNull final APIRequest request) {
+    @Nullable final Output output = _parser.parse(request);
+    return output == null ? _defaultValue : output;
+  }
+
+  /**
+   * Return the parser to call.
+   *
+   * @return The parser to call.
+   */
+  public @NonNull APIRequestParser<Output> getParser () {
+    return _parser;
+  }
+
+  /**
+   * Return the value returned if the parser returns null.
+   *
+   * @return The value returned if the parser returns null.
+   */
+  public @NonNull Output getDefaultValue () {
+    return _defaultValue;
+  }
+
+  /**
+   * Check if another object is a parser with the same structure, leaves and functions being compared with their own
+   * equals method.
+   *
+   * @see Object#equals(Object)
+   */
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof OrElseAPIRequestParser) {
+      @NonNull final OrElseAPIRequestParser<?> otherParser = (OrElseAPIRequestParser<?>) other;
+
+      return Objects.equals(_parser, otherParser.getParser()) &&
+             Objects.equals(_defaultValue, otherParser.getDefaultValue());
+    }
+
+    return false;
+  }
+
+  /**
+   * @see Object#hashCode()
+   */
+  @Override
+  public int hashCode () {
+    return Objects.hash(_parser, _defaultValue);
+  }
+}
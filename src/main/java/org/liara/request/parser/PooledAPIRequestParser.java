@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A parser that delegate the parsing of each non-empty request to a parser borrowed from a pool.
+ *
+ * Each pooled parser is used by one thread at a time, stateful parsers can therefore be reused instead of being
+ * rebuilt for each request. New parsers are built only when all pooled parsers are in use, so the pool never holds
+ * more parsers than the maximum number of concurrent parsings.
+ *
+ * @param <Output> Output of the pooled parsers.
+ */
+public class PooledAPIRequestParser<Output> implements APIRequestParser<Output>
+{
+  @NonNull
+  private final Supplier<APIRequestParser<Output>> _supplier;
+
+  @NonNull
+  private final Queue<@NonNull APIRequestParser<Output>> _pool;
+
+  /**
+   * Create a new parser that delegate the parsing of each non-empty request to a pooled parser.
+   *
+   * @param supplier A supplier of parsers, called when the pool is empty.
+   */
+  public PooledAPIRequestParser (@NonNull final Supplier<APIRequestParser<Output>> supplier) {
+    _supplier = supplier;
+    _pool = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public Output parse (@NonNull final APIRequest request) {
+    if (request.getSize() <= 0) return null;
+
+    @Nullable APIRequestParser<Output> parser = _pool.poll();
+    if (parser == null) parser = _supplier.get();
+
+    try {
+      return parser.parse(request);
+    } finally {
+      _pool.offer(parser);
+    }
+  }
+
+  /**
+   * Return the supplier of parsers used by this parser.
+   *
+   * @return The supplier of parsers used by this parser.
+   */
+  public @NonNull Supplier<APIRequestParser<Output>> getSupplier () {
+    return _supplier;
+  }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A node of a parser graph, that is evaluated at most once per request during a parse of its graph.
+ *
+ * Outside of a parse of its graph, a shared parser simply delegates to its parser.
+ *
+ * @param <Output> Output type of the shared parser.
+ */
+final class SharedAPIRequestParser<Output> implements APIRequestParser<Output>
+{
+  @NonNull
+  private final APIRequestParser<Output> _parser;
+
+  /**
+   * Create a new shared node.
+   *
+   * @param parser The parser of the node, whose children are already shared.
+   */
+  SharedAPIRequestParser (@NonNull final APIRequestParser<Output> parser) {
+    _parser = parser;
+  }
+
+  /**
+   * @see APIRequestParser#parse(APIRequest)
+   */
+  @Override
+  public Output parse (@NonNull final APIRequest request) {
+    return APIRequestParserGraph.evaluate(this, request);
+  }
+
+  /**
+   * Evaluate the parser of this node without memoization.
+   *
+   * @param request A request to parse.
+   *
+   * @return The output of the parser of this node.
+   */
+  Output compute (@NonNull final APIRequest request) {
+    return _parser.parse(request);
+  }
+
+  /**
+   * Return the parser of this node.
+   *
+   * @return The parser of this node.
+   */
+  @NonNull APIRequestParser<Output> getParser () {
+    return _parser;
+  }
+}
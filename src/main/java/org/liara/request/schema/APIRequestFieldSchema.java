@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.schema;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequestValues;
+import org.liara.request.parser.APIRequestFieldParser;
+import org.liara.request.validator.APIRequestFieldValidation;
+import org.liara.request.validator.APIRequestFieldValidator;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that validate and parse an api request field in a single conversion.
+ *
+ * @param <Output> Output of the schema.
+ */
+@FunctionalInterface
+public interface APIRequestFieldSchema<Output>
+{
+  /**
+   * Return a schema that validate a field and then parse it if it is valid.
+   *
+   * @param validator A validator to apply to the field.
+   * @param parser A parser to apply to valid fields.
+   * @param <Output> Output of the parser.
+   *
+   * @return A schema that validate a field and then parse it if it is valid.
+   */
+  static <Output> @NonNull APIRequestFieldSchema<Output> of (
+    @NonNull final APIRequestFieldValidator validator,
+    @NonNull final APIRequestFieldParser<Output> parser
+  ) {
+    return (@NonNull final String field, @NonNull final APIRequestFieldValidation validation) -> {
+      @NonNull final APIRequestFieldValidation result = validator.validate(field);
+
+      if (result.isValid()) {
+        return parser.parse(field);
+      } else {
+        for (@NonNull final String error : result.getErrors()) validation.addError(error);
+        return null;
+      }
+    };
+  }
+
+  /**
+   * Return a schema that convert fields to integers.
+   *
+   * @param message An error to register for fields that are not valid integers.
+   *
+   * @return A schema that convert fields to integers.
+   */
+  static @NonNull APIRequestFieldSchema<Integer> integerValue (@NonNull final String message) {
+    return (@NonNull final String field, @NonNull final APIRequestFieldValidation validation) -> {
+      @NonNull final OptionalInt result = APIRequestValues.parseOptionalInteger(field);
+
+      if (result.isPresent()) {
+        return result.getAsInt();
+      } else {
+        validation.addError(message);
+        return null;
+      }
+    };
+  }
+
+  /**
+   * Return a schema that convert fields to longs.
+   *
+   * @param message An error to register for fields that are not valid longs.
+   *
+   * @return A schema that convert fields to longs.
+   */
+  static @NonNull APIRequestFieldSchema<Long> longValue (@NonNull final String message) {
+    return (@NonNull final String field, @NonNull final APIRequestFieldValidation validation) -> {
+      @NonNull final OptionalLong result = APIRequestValues.parseOptionalLong(field);
+
+      if (result.isPresent()) {
+        return result.getAsLong();
+      } else {
+        validation.addError(message);
+        return null;
+      }
+    };
+  }
+
+  /**
+   * Return a schema that convert fields to doubles.
+   *
+   * @param message An error to register for fields that are not valid doubles.
+   *
+   * @return A schema that convert fields to doubles.
+   */
+  static @NonNull APIRequestFieldSchema<Double> doubleValue (@NonNull final String message) {
+    return (@NonNull final String field, @NonNull final APIRequestFieldValidation validation) -> {
+      @NonNull final OptionalDouble result = APIRequestValues.parseOptionalDouble(field);
+
+      if (result.isPresent()) {
+        return result.getAsDouble();
+      } else {
+        validation.addError(message);
+        return null;
+      }
+    };
+  }
+
+  /**
+   * Validate and parse the given field content.
+   *
+   * @param field A field content to validate and parse.
+   * @param validation A validation to fill with the errors of the field, if any.
+   *
+   * @return The result of the conversion, or null if the field is invalid.
+   */
+  @Nullable Output apply (@NonNull final String field, @NonNull final APIRequestFieldValidation validation);
+}
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.schema;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+import org.liara.request.parser.APIRequestParser;
+import org.liara.request.validator.APIRequestFieldValidation;
+import org.liara.request.validator.APIRequestValidation;
+import org.liara.request.validator.APIRequestValidator;
+import org.liara.request.validator.error.APIRequestParameterValueError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that validate and parse an APIRequest in a single traversal, each raw value being converted at most once.
+ *
+ * @param <Output> Output of the schema.
+ */
+@FunctionalInterface
+public interface APIRequestSchema<Output>
+{
+  /**
+   * Return a schema that run a validator and then a parser, for reusing existing validators and parsers.
+   *
+   * @param validator A validator to apply to the request.
+   * @param parser A parser to apply to the request.
+   * @param <Output> Output of the parser.
+   *
+   * @return A schema that run the given validator and then the given parser.
+   */
+  static <Output> @NonNull APIRequestSchema<Output> of (
+    @NonNull final APIRequestValidator validator,
+    @NonNull final APIRequestParser<Output> parser
+  ) {
+    return (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) -> {
+      validator.validate(request, validation);
+      return parser.parse(request);
+    };
+  }
+
+  /**
+   * Return a schema that apply all the given schemas in order and return their non-null results as a list.
+   *
+   * @param schemas Schemas to apply.
+   * @param <Output> Output type of each schema.
+   *
+   * @return A schema that apply all the given schemas in order.
+   */
+  @SafeVarargs
+  static <Output> @NonNull APIRequestSchema<List<@NonNull Output>> all (
+    @NonNull final APIRequestSchema<Output> ...schemas
+  ) {
+    return all(Arrays.asList(schemas));
+  }
+
+  /**
+   * Return a schema that apply all the given schemas in order and return their non-null results as a list.
+   *
+   * @param schemas Schemas to apply.
+   * @param <Output> Output type of each schema.
+   *
+   * @return A schema that apply all the given schemas in order.
+   */
+  static <Output> @NonNull APIRequestSchema<List<@NonNull Output>> all (
+    @NonNull final List<@NonNull APIRequestSchema<Output>> schemas
+  ) {
+    @NonNull final List<@NonNull APIRequestSchema<Output>> copy = new ArrayList<>(schemas);
+
+    return (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) -> {
+      @NonNull final List<@NonNull Output> outputs = new ArrayList<>(copy.size());
+
+      for (@NonNull final APIRequestSchema<Output> schema : copy) {
+        if (validation.isComplete()) break;
+
+        @Nullable final Output output = schema.apply(request, validation);
+        if (output != null) outputs.add(output);
+      }
+
+      return outputs;
+    };
+  }
+
+  /**
+   * Return a schema that apply a field schema to each value of a field and return the valid results as a list, or
+   * null if there is no such result.
+   *
+   * @param name Name of the field.
+   * @param schema A schema to apply to each value of the field.
+   * @param <Output> Output type of the field schema.
+   *
+   * @return A schema that apply the given field schema to each value of a field.
+   */
+  static <Output> @NonNull APIRequestSchema<@Nullable List<@NonNull Output>> field (
+    @NonNull final String name,
+    @NonNull final APIRequestFieldSchema<Output> schema
+  ) {
+    return (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) -> {
+      @NonNull final APIRequestParameter parameter = request.getParameter(name);
+      if (parameter.getSize() <= 0) return null;
+
+      @NonNull final List<@NonNull Output> outputs = new ArrayList<>(parameter.getSize());
+      @NonNull final APIRequestFieldValidation fieldValidation = new APIRequestFieldValidation();
+
+      for (int index = 0; index < parameter.getSize() && !validation.isComplete(); ++index) {
+        @Nullable final Output output = schema.apply(parameter.get(index).get(), fieldValidation);
+
+        if (fieldValidation.hasErrors()) {
+          for (@NonNull final String error : fieldValidation.getErrors()) {
+            validation.addError(APIRequestParameterValueError.create(parameter, index, error));
+          }
+
+          fieldValidation.setErrors(Collections.emptyIterator());
+        } else if (output != null) {
+          outputs.add(output);
+        }
+      }
+
+      return outputs.isEmpty() ? null : outputs;
+    };
+  }
+
+  /**
+   * Return a schema that apply another schema to a child request.
+   *
+   * @param name Name of the child request.
+   * @param schema A schema to apply to the child request.
+   * @param <Output> Output of the child schema.
+   *
+   * @return A schema that apply the given schema to a child request.
+   */
+  static <Output> @NonNull APIRequestSchema<Output> childRequest (
+    @NonNull final String name,
+    @NonNull final APIRequestSchema<Output> schema
+  ) {
+    return (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) -> schema.apply(
+      request.getRequest(name), validation
+    );
+  }
+
+  /**
+   * Validate and parse the given request.
+   *
+   * @param request A request to validate and parse.
+   * @param validation A validation to fill with all errors found.
+   *
+   * @return The output of the schema, that may be incomplete if the request is not valid.
+   */
+  Output apply (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation);
+
+  /**
+   * Validate and parse the given request.
+   *
+   * @param request A request to validate and parse.
+   *
+   * @return The validation of the request and the output of the schema.
+   */
+  default @NonNull APIRequestSchemaResult<Output> apply (@NonNull final APIRequest request) {
+    @NonNull final APIRequestValidation validation = new APIRequestValidation(request);
+    @Nullable final Output output = apply(request, validation);
+    return new APIRequestSchemaResult<>(validation, output);
+  }
+
+  /**
+   * Apply an operation on the output of this schema.
+   *
+   * @param mapper An operation to apply to the output of this schema.
+   * @param <NextOutput> The operation output type.
+   *
+   * @return A schema that is the result of this schema transformed by the given operation.
+   */
+  default <NextOutput> @NonNull APIRequestSchema<NextOutput> map (
+    @NonNull final Function<Output, NextOutput> mapper
+  ) {
+    return (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) -> mapper.apply(
+      apply(request, validation)
+    );
+  }
+
+  /**
+   * Return a schema that returns a default value if this one return null.
+   *
+   * @param defaultValue A value to return if this schema returns null.
+   *
+   * @return A schema that returns a default value if this one return null.
+   */
+  default @NonNull APIRequestSchema<@NonNull Output> orElse (@NonNull final Output defaultValue) {
+    return (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) -> {
+      @Nullable final Output output = apply(request, validation);
+      return output == null ? defaultValue : output;
+    };
+  }
+
+  /**
+   * Return a validator that apply this schema and discard its output.
+   *
+   * @return A validator that apply this schema and discard its output.
+   */
+  default @NonNull APIRequestValidator asValidator () {
+    return new APIRequestValidator() {
+      @Override
+      public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+        return APIRequestSchema.this.apply(request).getValidation();
+      }
+
+      @Override
+      public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+        APIRequestSchema.this.apply(request, validation);
+      }
+    };
+  }
+
+  /**
+   * Return a parser that apply this schema and discard its validation.
+   *
+   * @return A parser that apply this schema and discard its validation.
+   */
+  default @NonNull APIRequestParser<Output> asParser () {
+    return (@NonNull final APIRequest request) -> apply(request, new APIRequestValidation(request));
+  }
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.schema;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.validator.APIRequestValidation;
+import org.liara.request.validator.error.InvalidAPIRequestException;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * The validation and the output produced by a schema for a given request.
+ *
+ * @param <Output> Output of the schema.
+ */
+public class APIRequestSchemaResult<Output>
+{
+  @NonNull
+  private final APIRequestValidation _validation;
+
+  @Nullable
+  private final Output _output;
+
+  public APIRequestSchemaResult (@NonNull final APIRequestValidation validation, @Nullable final Output output) {
+    _validation = validation;
+    _output = output;
+  }
+
+  public boolean isValid () {
+    return _validation.isValid();
+  }
+
+  public @NonNull APIRequestValidation getValidation () {
+    return _validation;
+  }
+
+  /**
+   * Return the output of the schema, that may be incomplete if the request is not valid.
+   *
+   * @return The output of the schema.
+   */
+  public @Nullable Output getOutput () {
+    return _output;
+  }
+
+  /**
+   * Return the output of the schema if the request is valid.
+   *
+   * @return The output of the schema.
+   *
+   * @throws InvalidAPIRequestException If the request is not valid.
+   */
+  public @Nullable Output getValidOutput () throws InvalidAPIRequestException {
+    _validation.assertRequestIsValid();
+    return _output;
+  }
+}
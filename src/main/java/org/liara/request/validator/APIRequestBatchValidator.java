@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+import org.liara.request.validator.error.APIRequestParameterValueError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that validate many requests at once with the same validator tree.
+ *
+ * Requests are split into chunks that are validated concurrently. Inside a chunk, the tree is walked once and each of
+ * its nodes is applied to all requests of the chunk before moving to the next node, instead of walking the whole tree
+ * once per request.
+ */
+public class APIRequestBatchValidator
+{
+  /**
+   * Default number of requests validated by each task.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 256;
+
+  @NonNull
+  private final APIRequestValidator _validator;
+
+  @NonNull
+  private final Executor _executor;
+
+  private final int _chunkSize;
+
+  /**
+   * Create a new batch validator that runs on the common fork-join pool.
+   *
+   * @param validator A validator tree to apply to each request.
+   */
+  public APIRequestBatchValidator (@NonNull final APIRequestValidator validator) {
+    this(validator, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Create a new batch validator.
+   *
+   * @param validator A validator tree to apply to each request.
+   * @param executor An executor to use for validating each chunk of requests.
+   * @param chunkSize Number of requests validated by each task, must be strictly positive.
+   */
+  public APIRequestBatchValidator (
+    @NonNull final APIRequestValidator validator,
+    @NonNull final Executor executor,
+    final int chunkSize
+  ) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException(
+        "Unable to create a batch validator with a chunk size of " + chunkSize + ", the size must be positive."
+      );
+    }
+
+    _validator = APIRequestValidationPlan.compile(validator);
+    _executor = executor;
+    _chunkSize = chunkSize;
+  }
+
+  /**
+   * Validate the given requests.
+   *
+   * @param requests Requests to validate.
+   *
+   * @return The validation of each given request, in the same order.
+   */
+  public @NonNull List<@NonNull APIRequestValidation> validate (@NonNull final List<@NonNull APIRequest> requests) {
+    return validate(requests, APIRequestValidationMode.EXHAUSTIVE);
+  }
+
+  /**
+   * Validate the given requests in a given mode.
+   *
+   * @param requests Requests to validate.
+   * @param mode The mode of each validation.
+   *
+   * @return The validation of each given request, in the same order.
+   */
+  public @NonNull List<@NonNull APIRequestValidation> validate (
+    @NonNull final List<@NonNull APIRequest> requests,
+    @NonNull final APIRequestValidationMode mode
+  ) {
+    @NonNull final APIRequest[] batch = requests.toArray(new APIRequest[0]);
+    @NonNull final APIRequestValidation[] validations = new APIRequestValidation[batch.length];
+
+    for (int index = 0; index < batch.length; ++index) {
+      validations[index] = new APIRequestValidation(batch[index], mode);
+    }
+
+    if (batch.length <= _chunkSize) {
+      validate(_validator, batch, validations);
+    } else {
+      @NonNull final List<@NonNull CompletableFuture<Void>> tasks = new ArrayList<>();
+
+      for (int from = 0; from < batch.length; from += _chunkSize) {
+        final int to = Math.min(from + _chunkSize, batch.length);
+        @NonNull final APIRequest[] chunk = Arrays.copyOfRange(batch, from, to);
+        @NonNull final APIRequestValidation[] chunkValidations = Arrays.copyOfRange(validations, from, to);
+
+        tasks.add(CompletableFuture.runAsync(() -> validate(_validator, chunk, chunkValidations), _executor));
+      }
+
+      try {
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+      } catch (@NonNull final CompletionException exception) {
+        if (exception.getCause() instanceof RuntimeException) throw (RuntimeException) exception.getCause();
+        if (exception.getCause() instanceof Error) throw (Error) exception.getCause();
+        throw exception;
+      }
+    }
+
+    return Arrays.asList(validations);
+  }
+
+  /**
+   * Apply a validator to each request of a chunk.
+   *
+   * @param validator A validator to apply.
+   * @param requests Requests to validate.
+   * @param validations The validation of each request.
+   */
+  private static void validate (
+    @NonNull final APIRequestValidator validator,
+    @NonNull final APIRequest[] requests,
+    @NonNull final APIRequestValidation[] validations
+  ) {
+    if (validator instanceof APIRequestValidationPlan) {
+      for (@NonNull final APIRequestValidator step : ((APIRequestValidationPlan) validator).getSteps()) {
+        validate(step, requests, validations);
+      }
+    } else if (validator instanceof AllAPIRequestValidator) {
+      for (@NonNull final APIRequestValidator child : ((AllAPIRequestValidator) validator).getValidators()) {
+        validate(child, requests, validations);
+      }
+    } else if (validator instanceof ChildAPIRequestValidator) {
+      @NonNull final ChildAPIRequestValidator child = (ChildAPIRequestValidator) validator;
+      @NonNull final APIRequest[] children = new APIRequest[requests.length];
+
+      for (int index = 0; index < requests.length; ++index) {
+        children[index] = requests[index].getRequest(child.getName());
+      }
+
+      validate(child.getValidator(), children, validations);
+    } else if (validator instanceof FieldAPIRequestValidator) {
+      validateField((FieldAPIRequestValidator) validator, requests, validations);
+    } else {
+      for (int index = 0; index < requests.length; ++index) {
+        if (!validations[index].isComplete()) validator.validate(requests[index], validations[index]);
+      }
+    }
+  }
+
+  /**
+   * Apply a field validator to each request of a chunk.
+   *
+   * @param validator A field validator to apply.
+   * @param requests Requests to validate.
+   * @param validations The validation of each request.
+   */
+  private static void validateField (
+    @NonNull final FieldAPIRequestValidator validator,
+    @NonNull final APIRequest[] requests,
+    @NonNull final APIRequestValidation[] validations
+  ) {
+    @NonNull final String name = validator.getName();
+    @NonNull final APIRequestFieldValidator fieldValidator = validator.getValidator();
+
+    for (int requestIndex = 0; requestIndex < requests.length; ++requestIndex) {
+      @NonNull final APIRequestValidation validation = validations[requestIndex];
+      @NonNull final APIRequestParameter parameter = requests[requestIndex].getParameter(name);
+
+      for (int index = 0; index < parameter.getSize() && !validation.isComplete(); ++index) {
+        @NonNull final APIRequestFieldValidation result = fieldValidator.validate(parameter.get(index).get());
+        if (result.isValid()) continue;
+
+        for (@NonNull final String error : result.getErrors()) {
+          if (validation.isComplete()) break;
+          validation.addError(APIRequestParameterValueError.create(parameter, index, error));
+        }
+      }
+    }
+  }
+}
@@ -1,36 +1,68 @@
 package org.liara.request.validator;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.*;
 
 public class APIRequestFieldValidation
 {
   @NonNull
+  private static final APIRequestFieldValidation VALID = new ValidAPIRequestFieldValidation();
+
+  /**
+   * Return a shared, immutable, validation without any error.
+   *
+   * Field validators should return this instance for valid fields in order to not allocate anything.
+   *
+   * @return A shared, immutable, validation without any error.
+   */
+  public static @NonNull APIRequestFieldValidation valid () {
+    return VALID;
+  }
+
+  /**
+   * Return a new validation with a given error.
+   *
+   * @param error The error of the field.
+   *
+   * @return A new validation with the given error.
+   */
+  public static @NonNull APIRequestFieldValidation invalid (@NonNull final String error) {
+    @NonNull final APIRequestFieldValidation result = new APIRequestFieldValidation();
+    result.addError(error);
+    return result;
+  }
+
+  /**
+   * Errors of this validation, allocated when the first error is registered.
+   */
+  @Nullable
   private Set<@NonNull String> _errors;
 
   public APIRequestFieldValidation () {
-    _errors = new HashSet<>();
+    _errors = null;
   }
 
   public APIRequestFieldValidation (@NonNull final APIRequestFieldValidation toCopy) {
-    _errors = new HashSet<>(toCopy.getErrors());
+    _errors = toCopy.hasErrors() ? new HashSet<>(toCopy.getErrors()) : null;
   }
 
   public boolean isValid () {
-    return _errors.size() <= 0;
+    return _errors == null || _errors.size() <= 0;
   }
 
   public boolean hasErrors () {
-    return _errors.size() > 0;
+    return _errors != null && _errors.size() > 0;
   }
 
   public void addError (@NonNull final String error) {
+    if (_errors == null) _errors = new HashSet<>();
     _errors.add(error);
   }
 
   public @NonNull Set<@NonNull String> getErrors () {
-    return Collections.unmodifiableSet(_errors);
+    return _errors == null ? Collections.emptySet() : Collections.unmodifiableSet(_errors);
   }
 
   public void setErrors (@NonNull final Collection<@NonNull String> errors) {
@@ -46,7 +78,22 @@ public class APIRequestFieldValidation
   }
 
   public void setErrors (@NonNull final Iterator<@NonNull String> errors) {
-    _errors.clear();
-    errors.forEachRemaining(_errors::add);
+    _errors = null;
+    errors.forEachRemaining(this::addError);
+  }
+
+  private static final class ValidAPIRequestFieldValidation extends APIRequestFieldValidation
+  {
+    @Override
+    public void addError (@NonNull final String error) {
+      throw new UnsupportedOperationException("Unable to add an error to the shared valid field validation.");
+    }
+
+    @Override
+    public void setErrors (@NonNull final Iterator<@NonNull String> errors) {
+      if (errors.hasNext()) {
+        throw new UnsupportedOperationException("Unable to add an error to the shared valid field validation.");
+      }
+    }
   }
 }
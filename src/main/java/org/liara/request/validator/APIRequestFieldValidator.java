@@ -31,6 +31,21 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 @FunctionalInterface
 public interface APIRequestFieldValidator
 {
+  /**
+   * Return a validator that keep the results of the given validator in a bounded cache shared by all requests.
+   *
+   * @param validator A validator to memoize.
+   * @param maximumSize The maximum number of results to keep.
+   *
+   * @return A memoizing wrapper of the given validator.
+   */
+  static @NonNull MemoizedAPIRequestFieldValidator memoize (
+    @NonNull final APIRequestFieldValidator validator,
+    final long maximumSize
+  ) {
+    return new MemoizedAPIRequestFieldValidator(validator, maximumSize);
+  }
+
   /**
    * Validate the given field.
    * 
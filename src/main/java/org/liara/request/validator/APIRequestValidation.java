@@ -13,49 +13,109 @@ public class APIRequestValidation implements Iterable<@NonNull APIRequestError>
   @NonNull
   private final APIRequest _request;
 
+  /**
+   * Errors of this validation in registration order, allocated when the first error is registered.
+   */
+  @Nullable
+  private Set<@NonNull APIRequestError> _errors;
+
   @NonNull
-  private final Set<@NonNull APIRequestError> _errors;
+  private final APIRequestValidationMode _mode;
 
   public APIRequestValidation (@NonNull final APIRequest request) {
+    this(request, APIRequestValidationMode.EXHAUSTIVE);
+  }
+
+  public APIRequestValidation (@NonNull final APIRequest request, @NonNull final APIRequestValidationMode mode) {
     _request = request;
-    _errors = new HashSet<>();
+    _errors = null;
+    _mode = mode;
   }
 
   public APIRequestValidation (@NonNull final APIRequestValidation toCopy) {
     _request = toCopy.getRequest();
-    _errors = new HashSet<>(toCopy.getErrors());
+    _errors = toCopy.hasErrors() ? new LinkedHashSet<>(toCopy.getErrors()) : null;
+    _mode = toCopy.getMode();
   }
 
+  /**
+   * Register an error, the error is ignored if this validation is already complete.
+   *
+   * @param error An error to register.
+   */
   public void addError (@NonNull final APIRequestError error) {
-    _errors.add(error);
+    if (!isComplete()) getMutableErrors().add(error);
   }
 
   public void addErrors (@NonNull final APIRequestError ...errors) {
-    _errors.addAll(Arrays.asList(errors));
+    addErrors(Arrays.asList(errors));
   }
 
   public void addErrors (@NonNull final APIRequestValidation validation) {
-    _errors.addAll(validation.getErrors());
+    addErrors(validation.getErrors());
+  }
+
+  public void addErrors (@NonNull final Iterable<@NonNull APIRequestError> errors) {
+    for (@NonNull final APIRequestError error : errors) {
+      if (isComplete()) return;
+      getMutableErrors().add(error);
+    }
+  }
+
+  private @NonNull Set<@NonNull APIRequestError> getMutableErrors () {
+    if (_errors == null) _errors = new LinkedHashSet<>();
+    return _errors;
+  }
+
+  /**
+   * Return true if this validation has collected as many errors as its mode allows, validators should then stop.
+   *
+   * @return True if this validation does not accept more errors.
+   */
+  public boolean isComplete () {
+    return getErrorCount() >= _mode.getErrorLimit();
+  }
+
+  public @NonNull APIRequestValidationMode getMode () {
+    return _mode;
   }
   public void assertRequestIsValid () throws InvalidAPIRequestException  {
     if (hasErrors()) throw new InvalidAPIRequestException(this);
   }
 
+  /**
+   * Throw an exception if this validation has errors.
+   *
+   * @param captureStackTrace False in order to throw an exception without stack trace, that is much cheaper to create.
+   *
+   * @throws InvalidAPIRequestException If this validation has errors.
+   */
+  public void assertRequestIsValid (final boolean captureStackTrace) throws InvalidAPIRequestException  {
+    if (hasErrors()) throw new InvalidAPIRequestException(this, captureStackTrace);
+  }
+
   public boolean isValid () {
-    return _errors.size() <= 0;
+    return getErrorCount() <= 0;
   }
 
   public boolean hasErrors () {
-    return _errors.size() > 0;
+    return getErrorCount() > 0;
+  }
+
+  public int getErrorCount () {
+    return _errors == null ? 0 : _errors.size();
   }
 
   public @NonNull Set<@NonNull APIRequestError> getErrors () {
-    return Collections.unmodifiableSet(_errors);
+    return _errors == null ? Collections.emptySet() : Collections.unmodifiableSet(_errors);
   }
 
   public void setErrors (@NonNull final Iterator<@NonNull APIRequestError> errors) {
-    _errors.clear();
-    errors.forEachRemaining(_errors::add);
+    _errors = null;
+
+    while (errors.hasNext() && !isComplete()) {
+      getMutableErrors().add(errors.next());
+    }
   }
 
   public void setErrors (@NonNull final Iterable<@NonNull APIRequestError> errors) {
@@ -76,12 +136,12 @@ public class APIRequestValidation implements Iterable<@NonNull APIRequestError>
 
   @Override
   public @NonNull Iterator<@NonNull APIRequestError> iterator () {
-    return Collections.unmodifiableSet(_errors).iterator();
+    return getErrors().iterator();
   }
 
   @Override
   public int hashCode () {
-    return Objects.hash(_request, _errors);
+    return Objects.hash(_request, getErrors());
   }
 
   @Override
@@ -92,7 +152,7 @@ public class APIRequestValidation implements Iterable<@NonNull APIRequestError>
     if (other instanceof APIRequestValidation) {
       @NonNull final APIRequestValidation otherValidation = (APIRequestValidation) other;
 
-      return Objects.equals(_errors, otherValidation.getErrors()) &&
+      return Objects.equals(getErrors(), otherValidation.getErrors()) &&
              Objects.equals(_request, otherValidation.getRequest());
     }
 
@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Define how many errors a validation collects before the remaining validators are skipped.
+ */
+public final class APIRequestValidationMode
+{
+  /**
+   * A mode that run all validators and collect all errors.
+   */
+  @NonNull
+  public static final APIRequestValidationMode EXHAUSTIVE = new APIRequestValidationMode(Integer.MAX_VALUE);
+
+  /**
+   * A mode that stop the validation at the first error.
+   */
+  @NonNull
+  public static final APIRequestValidationMode FAIL_FAST = new APIRequestValidationMode(1);
+
+  private final int _errorLimit;
+
+  /**
+   * Return a mode that stop the validation after a given number of errors.
+   *
+   * @param errorLimit Maximum number of errors to collect, must be strictly positive.
+   *
+   * @return A mode that stop the validation after the given number of errors.
+   */
+  public static @NonNull APIRequestValidationMode errorBudget (final int errorLimit) {
+    if (errorLimit <= 0) {
+      throw new IllegalArgumentException(
+        "Unable to create a validation mode with an error limit of " + errorLimit + ", the limit must be positive."
+      );
+    }
+
+    return new APIRequestValidationMode(errorLimit);
+  }
+
+  private APIRequestValidationMode (final int errorLimit) {
+    _errorLimit = errorLimit;
+  }
+
+  /**
+   * Return the maximum number of errors collected in this mode.
+   *
+   * @return The maximum number of errors collected in this mode.
+   */
+  public int getErrorLimit () {
+    return _errorLimit;
+  }
+
+  @Override
+  public boolean equals (@Nullable final Object other) {
+    if (other == null) return false;
+    if (other == this) return true;
+
+    if (other instanceof APIRequestValidationMode) {
+      return _errorLimit == ((APIRequestValidationMode) other).getErrorLimit();
+    }
+
+    return false;
+  }
+
+  @Override
+  public int hashCode () {
+    return Integer.hashCode(_errorLimit);
+  }
+}
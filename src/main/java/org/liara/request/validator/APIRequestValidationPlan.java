@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator tree compiled into a flat sequence of steps that all write into a single validation.
+ *
+ * Nested "all" validators are inlined into the plan while child request and parallel validators are compiled
+ * recursively, so the sequential validation of a request only allocates one APIRequestValidation, whatever the number
+ * of validators.
+ */
+public class APIRequestValidationPlan implements APIRequestValidator
+{
+  @NonNull
+  private final APIRequestValidator[] _steps;
+
+  /**
+   * Compile the given validator tree into a plan.
+   *
+   * @param validator A validator tree to compile.
+   *
+   * @return A plan equivalent to the given validator tree.
+   */
+  public static @NonNull APIRequestValidationPlan compile (@NonNull final APIRequestValidator validator) {
+    if (validator instanceof APIRequestValidationPlan) return (APIRequestValidationPlan) validator;
+
+    @NonNull final List<@NonNull APIRequestValidator> steps = new ArrayList<>();
+    inline(validator, steps);
+    return new APIRequestValidationPlan(steps);
+  }
+
+  private static void inline (
+    @NonNull final APIRequestValidator validator,
+    @NonNull final List<@NonNull APIRequestValidator> steps
+  ) {
+    if (validator instanceof APIRequestValidationPlan) {
+      steps.addAll(((APIRequestValidationPlan) validator).getSteps());
+    } else if (validator instanceof AllAPIRequestValidator) {
+      for (@NonNull final APIRequestValidator child : ((AllAPIRequestValidator) validator).getValidators()) {
+        inline(child, steps);
+      }
+    } else if (validator instanceof ChildAPIRequestValidator) {
+      @NonNull final ChildAPIRequestValidator child = (ChildAPIRequestValidator) validator;
+      steps.add(new ChildAPIRequestValidator(child.getName(), compile(child.getValidator())));
+    } else if (validator instanceof ParallelAPIRequestValidator) {
+      @NonNull final ParallelAPIRequestValidator parallel = (ParallelAPIRequestValidator) validator;
+      @NonNull final List<@NonNull APIRequestValidator> children = new ArrayList<>(parallel.getValidators().size());
+
+      for (@NonNull final APIRequestValidator child : parallel.getValidators()) {
+        children.add(compile(child));
+      }
+
+      steps.add(new ParallelAPIRequestValidator(parallel.getExecutor(), children));
+    } else {
+      steps.add(validator);
+    }
+  }
+
+  private APIRequestValidationPlan (@NonNull final List<@NonNull APIRequestValidator> steps) {
+    _steps = steps.toArray(new APIRequestValidator[0]);
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    @NonNull final APIRequestValidation result = new APIRequestValidation(request);
+    validate(request, result);
+    return result;
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    for (@NonNull final APIRequestValidator step : _steps) {
+      if (validation.isComplete()) return;
+      step.validate(request, validation);
+    }
+  }
+
+  /**
+   * Return the steps of this plan.
+   *
+   * @return An unmodifiable list of the steps of this plan, in order.
+   */
+  public @NonNull List<@NonNull APIRequestValidator> getSteps () {
+    return Collections.unmodifiableList(Arrays.asList(_steps));
+  }
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.validator.error.APIRequestErrorSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * Stream validations as JSON directly to an output stream, without an object mapper.
+ *
+ * A validation is written as an object with an "errors" array, a batch of validations is written as an array of
+ * such objects. The given output streams are flushed but never closed.
+ */
+public class APIRequestValidationWriter
+{
+  @NonNull
+  private final JsonFactory _factory;
+
+  /**
+   * Create a new writer with its own json factory.
+   */
+  public APIRequestValidationWriter () {
+    this(new JsonFactory());
+  }
+
+  /**
+   * Create a new writer that use a given json factory.
+   *
+   * @param factory A factory to use for creating each generator.
+   */
+  public APIRequestValidationWriter (@NonNull final JsonFactory factory) {
+    _factory = factory;
+  }
+
+  /**
+   * Write a validation to an output stream.
+   *
+   * @param validation A validation to write.
+   * @param output An output stream to write into.
+   *
+   * @throws IOException If the output stream fails.
+   */
+  public void write (
+    @NonNull final APIRequestValidation validation,
+    @NonNull final OutputStream output
+  ) throws IOException {
+    try (@NonNull final JsonGenerator generator = createGenerator(output)) {
+      write(validation, generator);
+    }
+  }
+
+  /**
+   * Write a batch of validations to an output stream.
+   *
+   * @param validations Validations to write.
+   * @param output An output stream to write into.
+   *
+   * @throws IOException If the output stream fails.
+   */
+  public void writeAll (
+    @NonNull final Iterable<@NonNull APIRequestValidation> validations,
+    @NonNull final OutputStream output
+  ) throws IOException {
+    try (@NonNull final JsonGenerator generator = createGenerator(output)) {
+      generator.writeStartArray();
+
+      for (@NonNull final APIRequestValidation validation : validations) {
+        write(validation, generator);
+      }
+
+      generator.writeEndArray();
+    }
+  }
+
+  /**
+   * Write a validation with an existing generator.
+   *
+   * @param validation A validation to write.
+   * @param generator The generator to use.
+   *
+   * @throws IOException If the generator fails.
+   */
+  public void write (
+    @NonNull final APIRequestValidation validation,
+    @NonNull final JsonGenerator generator
+  ) throws IOException {
+    generator.writeStartObject();
+    generator.writeFieldName("errors");
+    APIRequestErrorSerializer.write(validation.getErrors(), generator);
+    generator.writeEndObject();
+  }
+
+  private @NonNull JsonGenerator createGenerator (@NonNull final OutputStream output) throws IOException {
+    @NonNull final JsonGenerator result = _factory.createGenerator(output, JsonEncoding.UTF8);
+    result.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    return result;
+  }
+
+  public @NonNull JsonFactory getFactory () {
+    return _factory;
+  }
+}
@@ -21,15 +21,15 @@
  ******************************************************************************/
 package org.liara.request.validator;
 
+import com.google.common.base.Suppliers;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.request.APIRequest;
-import org.liara.request.APIRequestParameter;
-import org.liara.request.validator.error.APIRequestParameterError;
-import org.liara.request.validator.error.APIRequestParameterValueError;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 /**
@@ -57,29 +57,109 @@ public interface APIRequestValidator
    * @return A validator that apply all the givens validators in order to its query.
    */
   static @NonNull APIRequestValidator all (@NonNull final List<@NonNull APIRequestValidator> validators) {
-    @NonNull final List<@NonNull APIRequestValidator> copy = new ArrayList<>(validators);
+    return new AllAPIRequestValidator(validators);
+  }
 
-    return (@NonNull final APIRequest request) -> {
-      @NonNull final APIRequestValidation result = new APIRequestValidation(request);
+  /**
+   * Return a validator that apply all the givens independent validators concurrently, on the common fork-join pool.
+   *
+   * @param validators Validators to apply.
+   * @return A validator that apply all the givens validators concurrently and merge their errors in order.
+   */
+  static @NonNull APIRequestValidator parallel (@NonNull final APIRequestValidator ...validators) {
+    return parallel(ForkJoinPool.commonPool(), Arrays.asList(validators));
+  }
 
-      for (@NonNull final APIRequestValidator validator : copy) {
-        result.addErrors(validator.validate(request));
-      }
+  /**
+   * Return a validator that apply all the givens independent validators concurrently on a given executor.
+   *
+   * @param executor An executor to use for running each validator.
+   * @param validators Validators to apply.
+   * @return A validator that apply all the givens validators concurrently and merge their errors in order.
+   */
+  static @NonNull APIRequestValidator parallel (
+    @NonNull final Executor executor,
+    @NonNull final APIRequestValidator ...validators
+  ) {
+    return parallel(executor, Arrays.asList(validators));
+  }
 
-      return result;
-    };
+  /**
+   * Return a validator that apply all the givens independent validators concurrently on a given executor.
+   *
+   * @param executor An executor to use for running each validator.
+   * @param validators Validators to apply.
+   * @return A validator that apply all the givens validators concurrently and merge their errors in order.
+   */
+  static @NonNull APIRequestValidator parallel (
+    @NonNull final Executor executor,
+    @NonNull final List<@NonNull APIRequestValidator> validators
+  ) {
+    return new ParallelAPIRequestValidator(executor, validators);
   }
 
   static @NonNull APIRequestValidator factory (
     @NonNull final Supplier<APIRequestValidator> supplier
   ) {
-    return (@NonNull final APIRequest request) -> {
-      if (request.getSize() <= 0) {
-        return new APIRequestValidation(request);
-      } else {
-        return supplier.get().validate(request);
-      }
-    };
+    return new FactoryAPIRequestValidator(supplier);
+  }
+
+  /**
+   * Return a validator that build another validator on the first non-empty query and reuse it for all further queries.
+   *
+   * The validator is built lazily, so that recursive definitions remain possible. The built validator must be
+   * stateless because it is shared by all threads.
+   *
+   * @param supplier A supplier of validators, called at most once.
+   *
+   * @return A validator that delegate the validation of each non-empty query to a single built validator.
+   */
+  static @NonNull APIRequestValidator cachedFactory (
+    @NonNull final Supplier<APIRequestValidator> supplier
+  ) {
+    return new FactoryAPIRequestValidator(Suppliers.memoize(supplier::get));
+  }
+
+  /**
+   * Return a validator that delegate the validation of each non-empty query to a validator borrowed from a pool, for
+   * stateful validators that can't be shared between threads.
+   *
+   * @param supplier A supplier of validators, called when all pooled validators are in use.
+   *
+   * @return A validator that delegate the validation of each non-empty query to a pooled validator.
+   */
+  static @NonNull APIRequestValidator pooledFactory (
+    @NonNull final Supplier<APIRequestValidator> supplier
+  ) {
+    return new PooledAPIRequestValidator(supplier);
+  }
+
+  /**
+   * Return a validator that keep the validations of the given validator in a bounded cache keyed by request content.
+   *
+   * @param validator A validator to cache.
+   * @param maximumSize The maximum number of validations to keep.
+   * @param expireAfterWrite The duration after which a validation is discarded.
+   *
+   * @return A caching wrapper of the given validator.
+   */
+  static @NonNull CachedAPIRequestValidator cached (
+    @NonNull final APIRequestValidator validator,
+    final long maximumSize,
+    @NonNull final Duration expireAfterWrite
+  ) {
+    return new CachedAPIRequestValidator(validator, maximumSize, expireAfterWrite);
+  }
+
+  /**
+   * Compile a validator tree into a plan that validate each request with a single APIRequestValidation.
+   *
+   * @param validator A validator tree to compile.
+   *
+   * @return A validator equivalent to the given one.
+   */
+  static @NonNull APIRequestValidationPlan compile (@NonNull final APIRequestValidator validator) {
+    return APIRequestValidationPlan.compile(validator);
   }
 
   /**
@@ -107,18 +187,7 @@ public interface APIRequestValidator
     @NonNull final String name,
     @NonNull final String message
   ) {
-    return (@NonNull final APIRequest request) -> {
-      @NonNull final APIRequestValidation validation = new APIRequestValidation(request);
-
-      if (request.contains(name)) {
-        validation.addError(new APIRequestParameterError(
-          request.getParameter(name),
-          message
-        ));
-      }
-
-      return validation;
-    };
+    return new RequiredAPIRequestValidator(name, message);
   }
 
   /**
@@ -133,20 +202,25 @@ public interface APIRequestValidator
     @NonNull final String name,
     @NonNull final APIRequestFieldValidator validator
   ) {
-    return (@NonNull final APIRequest request) -> {
-      @NonNull final APIRequestValidation validation = new APIRequestValidation(request);
-      @NonNull final APIRequestParameter parameter = request.getParameter(name);
-
-      for (int index = 0; index < parameter.getSize(); ++index) {
-        @NonNull final String field = parameter.get(index).get();
-
-        for (@NonNull final String error : validator.validate(field).getErrors()) {
-          validation.addError(APIRequestParameterValueError.create(parameter, index, error));
-        }
-      }
+    return new FieldAPIRequestValidator(name, validator);
+  }
 
-      return validation;
-    };
+  /**
+   * Return a validator that split each value of a field of its query with a delimiter and apply another validator on
+   * each sub-value, like the comma-separated values of "ids=1,2,3".
+   *
+   * @param name Name of the field to validate.
+   * @param delimiter Delimiter of the sub-values of each value of the given field.
+   * @param validator A validator to call on each sub-value of the given field.
+   *
+   * @return A validator that apply another validator on each delimited sub-value of a field of its query.
+   */
+  static @NonNull APIRequestValidator delimitedField (
+    @NonNull final String name,
+    final char delimiter,
+    @NonNull final APIRequestFieldValidator validator
+  ) {
+    return new DelimitedFieldAPIRequestValidator(name, delimiter, validator);
   }
 
   /**
@@ -161,7 +235,7 @@ public interface APIRequestValidator
     @NonNull final String name,
     @NonNull final APIRequestValidator validator
   ) {
-    return (@NonNull final APIRequest request) -> validator.validate(request.getRequest(name));
+    return new ChildAPIRequestValidator(name, validator);
   }
 
   /**
@@ -171,4 +245,36 @@ public interface APIRequestValidator
    * @return An api request validation.
    */
   @NonNull APIRequestValidation validate (@NonNull final APIRequest request);
+
+  /**
+   * Validate the given request and register all errors found into an existing validation.
+   *
+   * Composite validators override this method in order to share the given validation with their children instead of
+   * allocating and merging one validation per child.
+   *
+   * @param request A request to validate.
+   * @param validation A validation to fill with all errors found.
+   */
+  default void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    validation.addErrors(validate(request));
+  }
+
+  /**
+   * Validate the given request in a given mode.
+   *
+   * Composite validators stop calling their children as soon as the validation holds as many errors as the mode allows.
+   *
+   * @param request A request to validate.
+   * @param mode The mode of the validation.
+   *
+   * @return An api request validation.
+   */
+  default @NonNull APIRequestValidation validate (
+    @NonNull final APIRequest request,
+    @NonNull final APIRequestValidationMode mode
+  ) {
+    @NonNull final APIRequestValidation result = new APIRequestValidation(request, mode);
+    validate(request, result);
+    return result;
+  }
 }
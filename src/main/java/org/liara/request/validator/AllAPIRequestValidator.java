@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator that apply a list of validators in order to its query.
+ */
+public class AllAPIRequestValidator implements APIRequestValidator
+{
+  @NonNull
+  private final List<@NonNull APIRequestValidator> _validators;
+
+  /**
+   * Create a new validator that apply the given validators in order.
+   *
+   * @param validators Validators to apply, the list is copied.
+   */
+  public AllAPIRequestValidator (@NonNull final List<@NonNull APIRequestValidator> validators) {
+    _validators = Collections.unmodifiableList(new ArrayList<>(validators));
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    @NonNull final APIRequestValidation result = new APIRequestValidation(request);
+    validate(request, result);
+    return result;
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    for (@NonNull final APIRequestValidator validator : _validators) {
+      if (validation.isComplete()) return;
+      validator.validate(request, validation);
+    }
+  }
+
+  /**
+   * Return the validators applied by this validator.
+   *
+   * @return An unmodifiable list of the validators applied by this validator.
+   */
+  public @NonNull List<@NonNull APIRequestValidator> getValidators () {
+    return _validators;
+  }
+}
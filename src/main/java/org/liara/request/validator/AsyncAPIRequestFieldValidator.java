@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that validate an API request field without blocking.
+ */
+@FunctionalInterface
+public interface AsyncAPIRequestFieldValidator
+{
+  /**
+   * Return an asynchronous validator that complete immediately with the result of a synchronous one.
+   *
+   * @param validator A synchronous validator to lift.
+   *
+   * @return An asynchronous validator that complete immediately with the result of the given validator, or with its
+   *         exception.
+   */
+  static @NonNull AsyncAPIRequestFieldValidator of (@NonNull final APIRequestFieldValidator validator) {
+    return (@NonNull final String field) -> {
+      try {
+        return CompletableFuture.completedFuture(validator.validate(field));
+      } catch (@NonNull final RuntimeException exception) {
+        return CompletableFuture.failedFuture(exception);
+      }
+    };
+  }
+
+  /**
+   * Validate the given field.
+   *
+   * @param field A field content to validate.
+   *
+   * @return A stage that complete with the result of the validation.
+   */
+  @NonNull CompletionStage<@NonNull APIRequestFieldValidation> validate (@NonNull final String field);
+}
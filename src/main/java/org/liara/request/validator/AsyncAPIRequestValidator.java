@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+import org.liara.request.validator.error.APIRequestParameterValueError;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * An object that validate an API request without blocking.
+ */
+@FunctionalInterface
+public interface AsyncAPIRequestValidator
+{
+  /**
+   * Return an asynchronous validator that complete immediately with the result of a synchronous one.
+   *
+   * @param validator A synchronous validator to lift.
+   *
+   * @return An asynchronous validator that complete immediately with the result of the given validator, or with its
+   *         exception.
+   */
+  static @NonNull AsyncAPIRequestValidator of (@NonNull final APIRequestValidator validator) {
+    return (@NonNull final APIRequest request) -> {
+      try {
+        return CompletableFuture.completedFuture(validator.validate(request));
+      } catch (@NonNull final RuntimeException exception) {
+        return CompletableFuture.failedFuture(exception);
+      }
+    };
+  }
+
+  /**
+   * Return a validator that start all the givens validators on its query and merge their errors in order.
+   *
+   * @param validators Validators to apply.
+   * @return A validator that apply all the givens validators to its query.
+   */
+  static @NonNull AsyncAPIRequestValidator all (@NonNull final AsyncAPIRequestValidator ...validators) {
+    return all(Arrays.asList(validators));
+  }
+
+  /**
+   * Return a validator that start all the givens validators on its query and merge their errors in order.
+   *
+   * @param validators Validators to apply.
+   * @return A validator that apply all the givens validators to its query.
+   */
+  static @NonNull AsyncAPIRequestValidator all (@NonNull final List<@NonNull AsyncAPIRequestValidator> validators) {
+    @NonNull final List<@NonNull AsyncAPIRequestValidator> copy = new ArrayList<>(validators);
+
+    return (@NonNull final APIRequest request) -> {
+      @NonNull final List<@NonNull CompletableFuture<@NonNull APIRequestValidation>> stages = new ArrayList<>(
+        copy.size()
+      );
+
+      for (@NonNull final AsyncAPIRequestValidator validator : copy) {
+        try {
+          stages.add(validator.validate(request).toCompletableFuture());
+        } catch (@NonNull final RuntimeException exception) {
+          stages.add(CompletableFuture.failedFuture(exception));
+        }
+      }
+
+      return CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0])).thenApply(
+        (@NonNull final Void ignored) -> {
+          @NonNull final APIRequestValidation result = new APIRequestValidation(request);
+
+          for (@NonNull final CompletableFuture<@NonNull APIRequestValidation> stage : stages) {
+            result.addErrors(stage.join());
+          }
+
+          return result;
+        }
+      );
+    };
+  }
+
+  /**
+   * Return a validator that apply another validator on each value of a field of its query.
+   *
+   * @param name Name of the field to validate.
+   * @param validator A validator to call on each values of the given field.
+   *
+   * @return A validator that apply another validator on each value of a field of its query.
+   */
+  static @NonNull AsyncAPIRequestValidator field (
+    @NonNull final String name,
+    @NonNull final AsyncAPIRequestFieldValidator validator
+  ) {
+    return (@NonNull final APIRequest request) -> {
+      @NonNull final APIRequestParameter parameter = request.getParameter(name);
+      @NonNull final List<@NonNull CompletableFuture<@NonNull APIRequestFieldValidation>> stages = new ArrayList<>(
+        parameter.getSize()
+      );
+
+      for (@NonNull final String field : parameter) {
+        try {
+          stages.add(validator.validate(field).toCompletableFuture());
+        } catch (@NonNull final RuntimeException exception) {
+          stages.add(CompletableFuture.failedFuture(exception));
+        }
+      }
+
+      return CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0])).thenApply(
+        (@NonNull final Void ignored) -> {
+          @NonNull final APIRequestValidation result = new APIRequestValidation(request);
+
+          for (int index = 0; index < stages.size(); ++index) {
+            for (@NonNull final String error : stages.get(index).join().getErrors()) {
+              result.addError(APIRequestParameterValueError.create(parameter, index, error));
+            }
+          }
+
+          return result;
+        }
+      );
+    };
+  }
+
+  /**
+   * Return a validator that apply another validator on a child request.
+   *
+   * @param name Name of the child request.
+   * @param validator A validator to call on the child request identified by the given name.
+   *
+   * @return A validator that apply another validator on a child request.
+   */
+  static @NonNull AsyncAPIRequestValidator childRequest (
+    @NonNull final String name,
+    @NonNull final AsyncAPIRequestValidator validator
+  ) {
+    return (@NonNull final APIRequest request) -> validator.validate(request.getRequest(name));
+  }
+
+  /**
+   * Validate the given request.
+   *
+   * @param request A request to validate.
+   * @return A stage that complete with the validation of the given request.
+   */
+  @NonNull CompletionStage<@NonNull APIRequestValidation> validate (@NonNull final APIRequest request);
+}
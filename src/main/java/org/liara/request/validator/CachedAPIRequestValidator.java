@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestContent;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator that keep the validations of another validator in a bounded cache keyed by request content.
+ *
+ * Requests with the same parameters and values share the same cached validation, whatever their implementation.
+ * The wrapped validator always validates the caller's request, an immutable snapshot of it being only used as the key
+ * of the cache. Each call returns a copy of the cached validation, that still refers to the request that was validated
+ * first and to its parameters. The least recently used validations are evicted first, and all validations expire after a
+ * given duration.
+ */
+public class CachedAPIRequestValidator implements APIRequestValidator
+{
+  @NonNull
+  private final APIRequestValidator _validator;
+
+  @NonNull
+  private final Cache<@NonNull APIRequest, @NonNull APIRequestValidation> _cache;
+
+  /**
+   * Create a new caching wrapper of a validator.
+   *
+   * @param validator A validator to cache.
+   * @param maximumSize The maximum number of validations to keep.
+   * @param expireAfterWrite The duration after which a validation is discarded.
+   */
+  public CachedAPIRequestValidator (
+    @NonNull final APIRequestValidator validator,
+    final long maximumSize,
+    @NonNull final Duration expireAfterWrite
+  ) {
+    _validator = validator;
+    _cache = CacheBuilder.newBuilder()
+                         .maximumSize(maximumSize)
+                         .expireAfterWrite(expireAfterWrite.toNanos(), TimeUnit.NANOSECONDS)
+                         .recordStats()
+                         .build();
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    return new APIRequestValidation(getValidation(request));
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    validation.addErrors(getValidation(request));
+  }
+
+  private @NonNull APIRequestValidation getValidation (@NonNull final APIRequest request) {
+    @Nullable APIRequestValidation result = _cache.getIfPresent(request);
+
+    if (result == null) {
+      result = _validator.validate(request);
+      _cache.put(APIRequestContent.toImmutable(request), result);
+    }
+
+    return result;
+  }
+
+  /**
+   * Return the cached validator.
+   *
+   * @return The cached validator.
+   */
+  public @NonNull APIRequestValidator getValidator () {
+    return _validator;
+  }
+
+  /**
+   * Return the hit and miss statistics of the cache.
+   *
+   * @return A snapshot of the statistics of the cache.
+   */
+  public @NonNull CacheStats getStatistics () {
+    return _cache.stats();
+  }
+
+  /**
+   * Discard all cached validations.
+   */
+  public void clear () {
+    _cache.invalidateAll();
+  }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator that apply another validator on a child request of its query.
+ */
+public class ChildAPIRequestValidator implements APIRequestValidator
+{
+  @NonNull
+  private final String _name;
+
+  @NonNull
+  private final APIRequestValidator _validator;
+
+  /**
+   * Create a new validator that apply another validator on a child request.
+   *
+   * @param name Name of the child request.
+   * @param validator A validator to call on the child request identified by the given name.
+   */
+  public ChildAPIRequestValidator (
+    @NonNull final String name,
+    @NonNull final APIRequestValidator validator
+  ) {
+    _name = name;
+    _validator = validator;
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    return _validator.validate(request.getRequest(_name));
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    if (validation.isComplete()) return;
+    _validator.validate(request.getRequest(_name), validation);
+  }
+
+  /**
+   * Return the name of the validated child request.
+   *
+   * @return The name of the validated child request.
+   */
+  public @NonNull String getName () {
+    return _name;
+  }
+
+  /**
+   * Return the validator applied on the child request.
+   *
+   * @return The validator applied on the child request.
+   */
+  public @NonNull APIRequestValidator getValidator () {
+    return _validator;
+  }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+import org.liara.request.APIRequestParameter;
+import org.liara.request.DelimitedAPIRequestParameter;
+import org.liara.request.validator.error.APIRequestParameterValueError;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator that split each value of a field of its query with a delimiter and apply a field validator on each
+ * sub-value, errors being reported with the index of the invalid sub-value.
+ */
+public class DelimitedFieldAPIRequestValidator implements APIRequestValidator
+{
+  @NonNull
+  private final String _name;
+
+  private final char _delimiter;
+
+  @NonNull
+  private final APIRequestFieldValidator _validator;
+
+  /**
+   * Create a new validator that apply a field validator on each delimited sub-value of a field.
+   *
+   * @param name Name of the field to validate.
+   * @param delimiter Delimiter of the sub-values of each value of the given field.
+   * @param validator A validator to call on each sub-value of the given field.
+   */
+  public DelimitedFieldAPIRequestValidator (
+    @NonNull final String name,
+    final char delimiter,
+    @NonNull final APIRequestFieldValidator validator
+  ) {
+    _name = name;
+    _delimiter = delimiter;
+    _validator = validator;
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    @NonNull final APIRequestValidation result = new APIRequestValidation(request);
+    validate(request, result);
+    return result;
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    @NonNull final APIRequestParameter parameter = new DelimitedAPIRequestParameter(
+      request.getParameter(_name), _delimiter
+    );
+
+    for (int index = 0; index < parameter.getSize() && !validation.isComplete(); ++index) {
+      @NonNull final APIRequestFieldValidation result = _validator.validate(parameter.get(index).get());
+      if (result.isValid()) continue;
+
+      for (@NonNull final String error : result.getErrors()) {
+        if (validation.isComplete()) return;
+        validation.addError(APIRequestParameterValueError.create(parameter, index, error));
+      }
+    }
+  }
+
+  /**
+   * Return the name of the validated field.
+   *
+   * @return The name of the validated field.
+   */
+  public @NonNull String getName () {
+    return _name;
+  }
+
+  /**
+   * Return the delimiter of the sub-values of the field.
+   *
+   * @return The delimiter of the sub-values of the field.
+   */
+  public char getDelimiter () {
+    return _delimiter;
+  }
+
+  /**
+   * Return the validator applied on each sub-value of the field.
+   *
+   * @return The validator applied on each sub-value of the field.
+   */
+  public @NonNull APIRequestFieldValidator getValidator () {
+    return _validator;
+  }
+}
@@ -0,0 +1,78 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator that build another validator for each non-empty query and delegate the validation to it.
+ */
+public class FactoryAPIRequestValidator implements APIRequestValidator
+{
+  @NonNull
+  private final Supplier<APIRequestValidator> _supplier;
+
+  /**
+   * Create a new validator that delegate the validation of each non-empty query to a new validator.
+   *
+   * @param supplier A supplier of validators.
+   */
+  public FactoryAPIRequestValidator (@NonNull final Supplier<APIRequestValidator> supplier) {
+    _supplier = supplier;
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    if (request.getSize() <= 0) {
+      return new APIRequestValidation(request);
+    } else {
+      return _supplier.get().validate(request);
+    }
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    if (request.getSize() > 0 && !validation.isComplete()) {
+      _supplier.get().validate(request, validation);
+    }
+  }
+
+  /**
+   * Return the supplier of validators used by this validator.
+   *
+   * @return The supplier of validators used by this validator.
+   */
+  public @NonNull Supplier<APIRequestValidator> getSupplier () {
+    return _supplier;
+  }
+}
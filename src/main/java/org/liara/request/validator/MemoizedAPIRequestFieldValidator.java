@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableSet;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Set;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A field validator that keep the results of another field validator in a bounded cache shared by all requests.
+ *
+ * The least recently used results are evicted first. Valid fields are reported with the shared valid field validation.
+ * Exceptions thrown by the memoized validator are propagated as is and nothing is cached for the failing field.
+ */
+public class MemoizedAPIRequestFieldValidator implements APIRequestFieldValidator
+{
+  @NonNull
+  private final APIRequestFieldValidator _validator;
+
+  @NonNull
+  private final Cache<@NonNull String, @NonNull Set<@NonNull String>> _cache;
+
+  /**
+   * Create a new memoizing wrapper of a field validator.
+   *
+   * @param validator A validator to memoize.
+   * @param maximumSize The maximum number of results to keep.
+   */
+  public MemoizedAPIRequestFieldValidator (
+    @NonNull final APIRequestFieldValidator validator,
+    final long maximumSize
+  ) {
+    _validator = validator;
+    _cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+  }
+
+  /**
+   * @see APIRequestFieldValidator#validate(String)
+   */
+  @Override
+  public @NonNull APIRequestFieldValidation validate (@NonNull final String field) {
+    @Nullable Set<@NonNull String> errors = _cache.getIfPresent(field);
+
+    if (errors == null) {
+      errors = ImmutableSet.copyOf(_validator.validate(field).getErrors());
+      _cache.put(field, errors);
+    }
+
+    if (errors.isEmpty()) {
+      return APIRequestFieldValidation.valid();
+    } else {
+      @NonNull final APIRequestFieldValidation result = new APIRequestFieldValidation();
+      result.setErrors(errors);
+      return result;
+    }
+  }
+
+  /**
+   * Return the memoized validator.
+   *
+   * @return The memoized validator.
+   */
+  public @NonNull APIRequestFieldValidator getValidator () {
+    return _validator;
+  }
+
+  /**
+   * Return the hit and miss statistics of the cache.
+   *
+   * @return A snapshot of the statistics of the cache.
+   */
+  public @NonNull CacheStats getStatistics () {
+    return _cache.stats();
+  }
+
+  /**
+   * Discard all cached results.
+   */
+  public void clear () {
+    _cache.invalidateAll();
+  }
+}
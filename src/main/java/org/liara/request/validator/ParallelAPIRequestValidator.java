@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.liara.request.APIRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator that apply a list of independent validators concurrently to its query.
+ *
+ * Each validator fills its own validation on an executor thread, the calling thread then merges them in the order of
+ * the validators, so the resulting errors do not depend on the scheduling. The validated request must support
+ * concurrent reads.
+ */
+public class ParallelAPIRequestValidator implements APIRequestValidator
+{
+  @NonNull
+  private final Executor _executor;
+
+  @NonNull
+  private final List<@NonNull APIRequestValidator> _validators;
+
+  /**
+   * Create a new validator that apply the given validators concurrently.
+   *
+   * @param executor An executor to use for running each validator.
+   * @param validators Validators to apply, the list is copied.
+   */
+  public ParallelAPIRequestValidator (
+    @NonNull final Executor executor,
+    @NonNull final List<@NonNull APIRequestValidator> validators
+  ) {
+    _executor = executor;
+    _validators = Collections.unmodifiableList(new ArrayList<>(validators));
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    @NonNull final APIRequestValidation result = new APIRequestValidation(request);
+    validate(request, result);
+    return result;
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    if (validation.isComplete()) return;
+
+    @NonNull final List<@NonNull CompletableFuture<@NonNull APIRequestValidation>> tasks = new ArrayList<>(
+      _validators.size()
+    );
+
+    for (@NonNull final APIRequestValidator validator : _validators) {
+      tasks.add(CompletableFuture.supplyAsync(() -> {
+        @NonNull final APIRequestValidation result = new APIRequestValidation(request, validation.getMode());
+        validator.validate(request, result);
+        return result;
+      }, _executor));
+    }
+
+    for (int index = 0; index < tasks.size(); ++index) {
+      if (validation.isComplete()) {
+        for (int next = index; next < tasks.size(); ++next) tasks.get(next).cancel(false);
+        return;
+      }
+
+      validation.addErrors(join(tasks.get(index)));
+    }
+  }
+
+  private static @NonNull APIRequestValidation join (@NonNull final CompletableFuture<APIRequestValidation> task) {
+    try {
+      return task.join();
+    } catch (@NonNull final CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException) throw (RuntimeException) exception.getCause();
+      if (exception.getCause() instanceof Error) throw (Error) exception.getCause();
+      throw exception;
+    }
+  }
+
+  /**
+   * Return the executor used for running each validator.
+   *
+   * @return The executor used for running each validator.
+   */
+  public @NonNull Executor getExecutor () {
+    return _executor;
+  }
+
+  /**
+   * Return the validators applied by this validator.
+   *
+   * @return An unmodifiable list of the validators applied by this validator.
+   */
+  public @NonNull List<@NonNull APIRequestValidator> getValidators () {
+    return _validators;
+  }
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.liara.request.APIRequest;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A validator that delegate the validation of each non-empty query to a validator borrowed from a pool.
+ *
+ * Each pooled validator is used by one thread at a time, stateful validators can therefore be reused instead of being
+ * rebuilt for each query. New validators are built only when all pooled validators are in use, so the pool never
+ * holds more validators than the maximum number of concurrent validations.
+ */
+public class PooledAPIRequestValidator implements APIRequestValidator
+{
+  @NonNull
+  private final Supplier<APIRequestValidator> _supplier;
+
+  @NonNull
+  private final Queue<@NonNull APIRequestValidator> _pool;
+
+  /**
+   * Create a new validator that delegate the validation of each non-empty query to a pooled validator.
+   *
+   * @param supplier A supplier of validators, called when the pool is empty.
+   */
+  public PooledAPIRequestValidator (@NonNull final Supplier<APIRequestValidator> supplier) {
+    _supplier = supplier;
+    _pool = new ConcurrentLinkedQueue<>();
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest)
+   */
+  @Override
+  public @NonNull APIRequestValidation validate (@NonNull final APIRequest request) {
+    if (request.getSize() <= 0) return new APIRequestValidation(request);
+
+    @NonNull final APIRequestValidator validator = borrow();
+
+    try {
+      return validator.validate(request);
+    } finally {
+      _pool.offer(validator);
+    }
+  }
+
+  /**
+   * @see APIRequestValidator#validate(APIRequest, APIRequestValidation)
+   */
+  @Override
+  public void validate (@NonNull final APIRequest request, @NonNull final APIRequestValidation validation) {
+    if (request.getSize() <= 0 || validation.isComplete()) return;
+
+    @NonNull final APIRequestValidator validator = borrow();
+
+    try {
+      validator.validate(request, validation);
+    } finally {
+      _pool.offer(validator);
+    }
+  }
+
+  private @NonNull APIRequestValidator borrow () {
+    @Nullable final APIRequestValidator result = _pool.poll();
+    return result == null ? _supplier.get() : result;
+  }
+
+  /**
+   * Return the supplier of validators used by this validator.
+   *
+   * @return The supplier of validators used by this validator.
+   */
+  public @NonNull Supplier<APIRequestValidator> getSupplier () {
+    return _supplier;
+  }
+}
@@ -22,6 +22,7 @@
 package org.liara.request.validator.error;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.request.APIRequest;
 
@@ -30,6 +31,7 @@ import org.liara.request.APIRequest;
  * 
  * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
  */
+@JsonSerialize(using = APIRequestErrorSerializer.class)
 public class APIRequestError
 {
   @NonNull
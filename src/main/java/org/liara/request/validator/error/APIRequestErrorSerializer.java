@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator.error;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A serializer that directly write API request errors, without bean introspection.
+ *
+ * Each error is written as an object with its description, and with the index of the invalid value and the name of
+ * the invalid parameter when they exist.
+ */
+public class APIRequestErrorSerializer extends StdSerializer<APIRequestError>
+{
+  private static final long serialVersionUID = 1L;
+
+  public APIRequestErrorSerializer () {
+    super(APIRequestError.class);
+  }
+
+  /**
+   * @see StdSerializer#serialize(Object, JsonGenerator, SerializerProvider)
+   */
+  @Override
+  public void serialize (
+    @NonNull final APIRequestError error,
+    @NonNull final JsonGenerator generator,
+    @NonNull final SerializerProvider provider
+  ) throws IOException {
+    write(error, generator);
+  }
+
+  /**
+   * Write an error.
+   *
+   * @param error An error to write.
+   * @param generator The generator to use.
+   *
+   * @throws IOException If the generator fails.
+   */
+  public static void write (
+    @NonNull final APIRequestError error,
+    @NonNull final JsonGenerator generator
+  ) throws IOException {
+    generator.writeStartObject();
+    generator.writeStringField("description", error.getDescription());
+
+    if (error instanceof APIRequestParameterValueError) {
+      generator.writeNumberField("index", ((APIRequestParameterValueError) error).getInvalidValueIndex());
+    }
+
+    if (error instanceof APIRequestParameterError) {
+      generator.writeStringField("parameter", ((APIRequestParameterError) error).getInvalidParameterName());
+    }
+
+    generator.writeEndObject();
+  }
+
+  /**
+   * Write an array of errors.
+   *
+   * @param errors Errors to write.
+   * @param generator The generator to use.
+   *
+   * @throws IOException If the generator fails.
+   */
+  public static void write (
+    @NonNull final Iterable<@NonNull APIRequestError> errors,
+    @NonNull final JsonGenerator generator
+  ) throws IOException {
+    generator.writeStartArray();
+
+    for (@NonNull final APIRequestError error : errors) {
+      write(error, generator);
+    }
+
+    generator.writeEndArray();
+  }
+}
@@ -23,6 +23,7 @@ package org.liara.request.validator.error;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.request.APIRequestParameter;
@@ -32,6 +33,7 @@ import org.liara.request.APIRequestParameter;
  * 
  * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
  */
+@JsonSerialize(using = APIRequestErrorSerializer.class)
 public class APIRequestParameterValueError extends APIRequestParameterError
 {
   @NonNegative
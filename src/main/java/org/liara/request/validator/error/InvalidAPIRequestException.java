@@ -37,6 +37,7 @@
 package org.liara.request.validator.error;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.liara.request.validator.APIRequestValidation;
 import org.liara.request.APIRequest;
@@ -47,6 +48,7 @@ import java.util.*;
  * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
  */
 @JsonIgnoreProperties({ "cause", "message", "stackTrace", "localizedMessage", "suppressed" })
+@JsonSerialize(using = InvalidAPIRequestExceptionSerializer.class)
 public class InvalidAPIRequestException extends Exception
 {
   /**
@@ -62,6 +64,24 @@ public class InvalidAPIRequestException extends Exception
   ) {
     _validation = validation;
   }
+
+  /**
+   * Create a new exception that may skip the capture of its stack trace.
+   *
+   * An exception without stack trace does not record suppressed exceptions either, throwing it is then as cheap as
+   * returning, which is useful when invalid requests are an expected and frequent outcome.
+   *
+   * @param validation The failed validation.
+   * @param writableStackTrace False in order to not capture the stack trace of this exception nor to record its
+   *                           suppressed exceptions, true to behave like the other constructors.
+   */
+  public InvalidAPIRequestException (
+    @NonNull final APIRequestValidation validation,
+    final boolean writableStackTrace
+  ) {
+    super(null, null, writableStackTrace, writableStackTrace);
+    _validation = validation;
+  }
   
   public @NonNull final Set<APIRequestError> getErrors () {
     return _validation.getErrors();
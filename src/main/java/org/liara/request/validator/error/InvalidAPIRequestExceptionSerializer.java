@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator.error;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.IOException;
+
+/**
+ * @author C&eacute;dric DEMONGIVERT [cedric.demongivert@gmail.com](mailto:cedric.demongivert@gmail.com)
+ *
+ * A serializer that write an invalid request exception as its request and its errors.
+ *
+ * Errors are streamed with {@link APIRequestErrorSerializer}, the request is written by the provider.
+ */
+public class InvalidAPIRequestExceptionSerializer extends StdSerializer<InvalidAPIRequestException>
+{
+  private static final long serialVersionUID = 1L;
+
+  public InvalidAPIRequestExceptionSerializer () {
+    super(InvalidAPIRequestException.class);
+  }
+
+  /**
+   * @see StdSerializer#serialize(Object, JsonGenerator, SerializerProvider)
+   */
+  @Override
+  public void serialize (
+    @NonNull final InvalidAPIRequestException exception,
+    @NonNull final JsonGenerator generator,
+    @NonNull final SerializerProvider provider
+  ) throws IOException {
+    generator.writeStartObject();
+    provider.defaultSerializeField("request", exception.getRequest(), generator);
+    generator.writeFieldName("errors");
+    APIRequestErrorSerializer.write(exception.getErrors(), generator);
+    generator.writeEndObject();
+  }
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class APIRequestValuesSpecification extends Specification
+{
+  @Unroll
+  def "it converts #value to an optional integer and to an optional long" () {
+    expect: "the conversion to return the parsed value or nothing"
+    APIRequestValues.parseOptionalInteger(value) == (integer == null ? OptionalInt.empty() : OptionalInt.of(integer))
+    APIRequestValues.parseOptionalLong(value) == (longValue == null ? OptionalLong.empty() : OptionalLong.of(longValue))
+
+    where:
+    value                  | integer           | longValue
+    "0"                    | 0                 | 0L
+    "+5"                   | 5                 | 5L
+    "-2147483648"          | Integer.MIN_VALUE | -2147483648L
+    "2147483648"           | null              | 2147483648L
+    "-9223372036854775808" | null              | Long.MIN_VALUE
+    "9223372036854775808"  | null              | null
+    "1.5"                  | null              | null
+    "-"                    | null              | null
+    ""                     | null              | null
+  }
+
+  @Unroll
+  def "it converts #value to an optional double" () {
+    expect: "the conversion to return the parsed value or nothing"
+    APIRequestValues.parseOptionalDouble(value) == (decimal == null ? OptionalDouble.empty() : OptionalDouble.of(decimal))
+
+    where:
+    value    | decimal
+    "1.5"    | 1.5d
+    "-2e3"   | -2000d
+    "NaN"    | Double.NaN
+    "1.5.2"  | null
+    "e5"     | null
+    ""       | null
+  }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request
+
+import org.liara.request.validator.APIRequestFieldValidation
+import org.liara.request.validator.APIRequestFieldValidator
+import org.liara.request.validator.APIRequestValidation
+import org.liara.request.validator.APIRequestValidator
+import org.liara.request.validator.error.APIRequestParameterValueError
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.CharBuffer
+
+class DelimitedAPIRequestParameterSpecification extends Specification
+{
+  private static DelimitedAPIRequestParameter split (final List<String> values) {
+    return new DelimitedAPIRequestParameter(new StaticAPIRequest(["ids": values]).getParameter("ids"), ',' as char)
+  }
+
+  @Unroll
+  def "it splits #values into #expected" () {
+    given: "a delimited view over a parameter"
+    final DelimitedAPIRequestParameter parameter = split(values)
+
+    expect: "its sub-values to be exposed in order, by index and by iteration"
+    parameter.getSize() == expected.size()
+    parameter.collect() == expected
+    parameter.get() as List<String> == expected
+    (0..<expected.size()).collect({ final int index -> parameter.getCharacters(index).toString() }) == expected
+
+    where:
+    values                    | expected
+    ["1,2,3"]                 | ["1", "2", "3"]
+    ["1", "2,3"]              | ["1", "2", "3"]
+    [""]                      | []
+    ["", "1"]                 | ["1"]
+    [","]                     | ["", ""]
+    [",5,"]                   | ["", "5", ""]
+    ["1,,2"]                  | ["1", "", "2"]
+    ["1,2,x", "", "4", ",5,"] | ["1", "2", "x", "4", "", "5", ""]
+  }
+
+  def "it maps each sub-value to the index of the value that contains it" () {
+    given: "a delimited view over a parameter with an empty value"
+    final DelimitedAPIRequestParameter parameter = split(["1,2,x", "", "4", ",5,"])
+
+    expect: "each sub-value to refer to its value, and unknown sub-values to be rejected"
+    (0..<parameter.getSize()).collect({ final int index -> parameter.getValueIndex(index) }) == [0, 0, 0, 2, 3, 3, 3]
+    parameter.getValueIndex(-1) == -1
+    parameter.getValueIndex(7) == -1
+    parameter.getCharacters(7) == null
+    parameter.get(7) == Optional.empty()
+  }
+
+  def "it exposes sub-values as slices of the original values" () {
+    given: "a delimited view over a parameter"
+    final DelimitedAPIRequestParameter parameter = split(["1,22", "333"])
+
+    expect: "partial sub-values to be slices and whole values to be returned as is"
+    parameter.getCharacters(1) instanceof CharBuffer
+    parameter.getCharacters(1).toString() == "22"
+    parameter.getCharacters(2).is(parameter.getParameter().getCharacters(1))
+  }
+
+  def "it reports the errors of a delimited field with the index of each invalid sub-value" () {
+    given: "a validator of delimited integers"
+    final APIRequestValidator validator = APIRequestValidator.delimitedField("ids", ',' as char, { final String field ->
+      field.isInteger() ? APIRequestFieldValidation.valid() : APIRequestFieldValidation.invalid("not an integer")
+    } as APIRequestFieldValidator)
+
+    when: "we validate a request with invalid and empty sub-values"
+    final APIRequestValidation validation = validator.validate(
+      new StaticAPIRequest(["ids": ["1,2,x", "", "4", ",5,"]])
+    )
+
+    then: "we expect one error per invalid sub-value, with its index and its content"
+    validation.getErrors().collect({ final APIRequestParameterValueError error ->
+      [error.getInvalidValueIndex(), error.getInvalidValue()]
+    }).sort({ final List<Object> error -> error[0] }) == [[2, "x"], [4, ""], [6, ""]]
+  }
+}
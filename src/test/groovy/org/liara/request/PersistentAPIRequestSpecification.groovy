@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class PersistentAPIRequestSpecification extends Specification
+{
+  private static final List<String> NAMES = [
+    "a", "a.a", "a.b", "a.b.c", "ab", "b", "b.a", "b.b", "ba", "c", "c.a", "c.a.b", "ca", "d", "d.a", "e"
+  ]
+
+  private static final List<String> PREFIXES = ["", "a", "a.", "a.b", "b.", "c.a", "d", "e", "f"]
+
+  private static List<String> randomValues (final Random random) {
+    final List<String> result = []
+    final int size = random.nextInt(4)
+
+    for (int index = 0; index < size; ++index) {
+      result.add(String.valueOf(random.nextInt(100)))
+    }
+
+    return result
+  }
+
+  private static List<String> namesOf (final Iterable<APIRequestParameter> parameters) {
+    return parameters.collect { it.name }
+  }
+
+  private static Map<String, List<String>> contentOf (final Iterable<APIRequestParameter> parameters) {
+    final Map<String, List<String>> result = new LinkedHashMap<>()
+    parameters.each { result.put(it.name, it.get() as List) }
+    return result
+  }
+
+  /**
+   * Check the AVL invariants of a subtree and return the number of its nodes.
+   */
+  private static int checkTree (final Object node, final String lower, final String upper) {
+    if (node == null) return 0
+
+    final String name = node.@name
+    assert lower == null || lower < name
+    assert upper == null || name < upper
+
+    final int left = checkTree(node.@left, lower, name)
+    final int right = checkTree(node.@right, name, upper)
+    final int leftHeight = node.@left == null ? 0 : node.@left.@height
+    final int rightHeight = node.@right == null ? 0 : node.@right.@height
+
+    assert Math.abs(leftHeight - rightHeight) <= 1
+    assert node.@height == 1 + Math.max(leftHeight, rightHeight)
+    assert node.@size == 1 + left + right
+
+    return 1 + left + right
+  }
+
+  private static Set<Object> nodesOf (final Object node) {
+    final Set<Object> result = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>())
+    final Deque<Object> stack = new ArrayDeque<>()
+
+    if (node != null) stack.push(node)
+
+    while (!stack.isEmpty()) {
+      final Object current = stack.pop()
+      result.add(current)
+      if (current.@left != null) stack.push(current.@left)
+      if (current.@right != null) stack.push(current.@right)
+    }
+
+    return result
+  }
+
+  private static int heightOf (final PersistentAPIRequest request) {
+    return request.@_root == null ? 0 : request.@_root.@height
+  }
+
+  private static void checkRequest (final PersistentAPIRequest request, final TreeMap<String, List<String>> reference) {
+    checkTree(request.@_root, null, null)
+
+    assert request.size == reference.size()
+    assert contentOf(request) == reference
+    assert namesOf(request) == reference.keySet() as List
+    assert contentOf(request.parameters) == reference
+
+    for (final String name : NAMES) {
+      assert request.contains(name) == reference.containsKey(name)
+      assert (request.getParameter(name).get() as List) == reference.getOrDefault(name, [])
+    }
+
+    for (final String prefix : PREFIXES) {
+      assert namesOf(request.getParametersWithPrefix(prefix)) == reference.keySet().findAll {
+        it.startsWith(prefix)
+      } as List
+    }
+  }
+
+  private static boolean sharesValues (
+    final PersistentAPIRequest previous,
+    final PersistentAPIRequest next,
+    final Collection<String> changed
+  ) {
+    return next.findAll { !changed.contains(it.name) }.every {
+      it.@_values.is(previous.getParameter(it.name).@_values)
+    }
+  }
+
+  @Unroll
+  def "it behaves like a sorted map under random updates (seed #seed)" () {
+    given: "a random sequence of updates applied to a request and to a reference map"
+    final Random random = new Random(seed)
+    final TreeMap<String, List<String>> reference = new TreeMap<>()
+    final List<PersistentAPIRequest> snapshots = []
+    final List<Map<String, List<String>>> expectations = []
+    PersistentAPIRequest request = PersistentAPIRequest.empty()
+
+    when: "we apply each update"
+    for (int step = 0; step < 300; ++step) {
+      final PersistentAPIRequest previous = request
+      final int operation = random.nextInt(10)
+      final Collection<String> changed
+
+      if (operation < 6) {
+        final String name = NAMES[random.nextInt(NAMES.size())]
+        final List<String> values = randomValues(random)
+        request = random.nextBoolean() ? request.with(name, values) : request.with(name, values as String[])
+        reference.put(name, values)
+        changed = [name]
+        assert nodesOf(request.@_root).findAll { !nodesOf(previous.@_root).contains(it) }.size() <=
+               heightOf(previous) + 1
+      } else if (operation < 9) {
+        final String name = NAMES[random.nextInt(NAMES.size())]
+        request = request.without(name)
+        changed = [name]
+        if (reference.remove(name) == null) assert request.is(previous)
+      } else {
+        final String prefix = PREFIXES[random.nextInt(PREFIXES.size())]
+        changed = reference.keySet().findAll { it.startsWith(prefix) }
+        request = request.withoutPrefix(prefix)
+        changed.each { reference.remove(it) }
+        if (changed.isEmpty()) assert request.is(previous)
+      }
+
+      checkRequest(request, reference)
+      assert sharesValues(previous, request, changed)
+      snapshots.add(request)
+      expectations.add(new TreeMap<>(reference))
+    }
+
+    then: "all previous snapshots are left untouched"
+    for (int index = 0; index < snapshots.size(); ++index) {
+      checkRequest(snapshots[index], expectations[index] as TreeMap)
+    }
+
+    where:
+    seed << [0L, 1L, 42L, 1337L, 20181L]
+  }
+
+  def "it keeps the tree balanced when parameters are added in order" () {
+    given: "a request with many parameters added in increasing order"
+    PersistentAPIRequest request = PersistentAPIRequest.empty()
+    final TreeMap<String, List<String>> reference = new TreeMap<>()
+
+    for (int index = 0; index < 1024; ++index) {
+      final String name = String.format("p%04d", index)
+      request = request.with(name, String.valueOf(index))
+      reference.put(name, [String.valueOf(index)])
+    }
+
+    expect: "the tree to be a valid AVL tree with a logarithmic height"
+    checkTree(request.@_root, null, null) == 1024
+    heightOf(request) <= 15
+    contentOf(request) == reference
+
+    and: "prefix queries to return a contiguous range of parameters"
+    namesOf(request.getParametersWithPrefix("p01")) == reference.keySet().findAll { it.startsWith("p01") } as List
+    namesOf(request.getParametersWithPrefix("p1023")) == ["p1023"]
+    namesOf(request.getParametersWithPrefix("q")) == []
+  }
+
+  def "it only copies the path to an updated parameter" () {
+    given: "a request with many parameters"
+    PersistentAPIRequest request = PersistentAPIRequest.empty()
+
+    for (int index = 0; index < 256; ++index) {
+      request = request.with(String.format("p%03d", index), String.valueOf(index))
+    }
+
+    when: "we update one parameter"
+    final PersistentAPIRequest updated = request.with("p128", "updated")
+
+    then: "only the nodes on the path to the updated parameter are new"
+    nodesOf(updated.@_root).findAll { !nodesOf(request.@_root).contains(it) }.size() <= heightOf(request)
+
+    and: "the values of all other parameters are shared"
+    sharesValues(request, updated, ["p128"])
+
+    and: "the original request is left untouched"
+    request.getParameter("p128").get() as List == ["128"]
+    updated.getParameter("p128").get() as List == ["updated"]
+  }
+
+  def "it does not share the given values array with the caller" () {
+    given: "an array of values"
+    final String[] values = ["first", "second"] as String[]
+
+    when: "we create a request from it and update the array"
+    final PersistentAPIRequest request = PersistentAPIRequest.empty().with("name", values)
+    values[0] = "changed"
+
+    then: "the request keeps its own values"
+    request.getParameter("name").get() as List == ["first", "second"]
+  }
+
+  def "its builder applies updates like the request itself" () {
+    given: "a request"
+    final PersistentAPIRequest request = PersistentAPIRequest.empty()
+      .with("a", "1")
+      .with("a.b", "2")
+      .with("a.c", "3")
+      .with("b", "4")
+
+    when: "we derive a new request with a builder"
+    final PersistentAPIRequest built = request.toBuilder()
+      .with("c", "5")
+      .with("b", ["6", "7"])
+      .without("a")
+      .withoutPrefix("a.")
+      .build()
+
+    then: "it contains the expected parameters"
+    contentOf(built) == ["b": ["6", "7"], "c": ["5"]]
+    checkTree(built.@_root, null, null) == 2
+
+    and: "the original request is left untouched"
+    contentOf(request) == ["a": ["1"], "a.b": ["2"], "a.c": ["3"], "b": ["4"]]
+
+    and: "it returns the shared empty request when nothing is left"
+    request.toBuilder().withoutPrefix("").build().is(PersistentAPIRequest.empty())
+    PersistentAPIRequest.builder().build().is(PersistentAPIRequest.empty())
+  }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+
+class StaticAPIRequestQueryStringSpecification extends Specification
+{
+  private static Map<String, List<String>> decode (final APIRequest request) {
+    final Map<String, List<String>> result = new TreeMap<>()
+
+    for (final APIRequestParameter parameter : request) {
+      result.put(parameter.getName(), parameter.get() as List<String>)
+    }
+
+    return result
+  }
+
+  @Unroll
+  def "it decodes the query string '#query' from characters, bytes and buffers" () {
+    given: "the bytes of the query string"
+    final byte[] bytes = query.getBytes(StandardCharsets.UTF_8)
+
+    expect: "each source to be decoded into the expected parameters"
+    decode(StaticAPIRequest.fromQueryString(query)) == expected
+    decode(StaticAPIRequest.fromQueryString(bytes)) == expected
+    decode(StaticAPIRequest.fromQueryString(ByteBuffer.wrap(bytes))) == expected
+
+    where:
+    query                      | expected
+    "a=1&b=2&b=3"              | ["a": ["1"], "b": ["2", "3"]]
+    "a+b=c+d"                  | ["a b": ["c d"]]
+    "a=%41%42%2b%2B"           | ["a": ["AB++"]]
+    "q=a%26b%3Dc"              | ["q": ["a&b=c"]]
+    "x=%C3%A9t%C3%A9%e2%82%ac" | ["x": ["\u00e9t\u00e9\u20ac"]]
+    "x=\u00e9t\u00e9\u20ac"    | ["x": ["\u00e9t\u00e9\u20ac"]]
+    "a=%ZZ&b=%4&c=%"           | ["a": ["%ZZ"], "b": ["%4"], "c": ["%"]]
+    "k=&=v&&flag"              | ["k": [""], "": ["v"], "flag": [""]]
+    "a=1&a&a="                 | ["a": ["1", "", ""]]
+    "="                        | ["": [""]]
+    "&&"                       | [:]
+    ""                         | [:]
+  }
+
+  def "it decodes the remaining bytes of a buffer without moving it" () {
+    given: "a buffer positioned after some leading bytes"
+    final ByteBuffer buffer = ByteBuffer.wrap("?a=1&b=%32".getBytes(StandardCharsets.US_ASCII))
+    buffer.position(1)
+
+    when: "we decode the buffer"
+    final APIRequest request = StaticAPIRequest.fromQueryString(buffer)
+
+    then: "we expect the remaining bytes to be decoded and the buffer to be left unchanged"
+    decode(request) == ["a": ["1"], "b": ["2"]]
+    buffer.position() == 1
+  }
+
+  def "it decodes values lazily from the characters of the query string" () {
+    given: "a request built from a query string"
+    final APIRequest request = StaticAPIRequest.fromQueryString("a=x%20y&a=z")
+
+    expect: "values to be read by index, as characters and by iteration"
+    request.getParameter("a").getSize() == 2
+    request.getParameter("a").get(0) == Optional.of("x y")
+    request.getParameter("a").getCharacters(1).toString() == "z"
+    request.getParameter("a").get(2) == Optional.empty()
+    request.getParameter("a").collect() == ["x y", "z"]
+    !request.contains("b")
+  }
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.codec
+
+import org.liara.request.APIRequest
+import org.liara.request.APIRequestContent
+import org.liara.request.StaticAPIRequest
+import spock.lang.Specification
+
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption
+
+class APIRequestCodecSpecification extends Specification
+{
+  def "it decodes the requests that it encodes" () {
+    given: "an encoder, a decoder and some requests"
+    final APIRequestEncoder encoder = new APIRequestEncoder()
+    final APIRequestDecoder decoder = new APIRequestDecoder()
+    final List<APIRequest> requests = [
+      new StaticAPIRequest([
+        "first": ["1", "2"],
+        "second.third": ["é€𝄞", ""]
+      ]),
+      new StaticAPIRequest([
+        "first": ["3"],
+        "fourth": []
+      ]),
+      new StaticAPIRequest()
+    ]
+
+    when: "we encode and decode each request in order"
+    final List<APIRequest> decoded = requests.collect({ final APIRequest request ->
+      decoder.decode(ByteBuffer.wrap(encoder.encode(request)))
+    })
+
+    then: "we expect to read back the same requests"
+    decoded == requests
+  }
+
+  def "it encodes child requests with their relative names" () {
+    given: "an encoder, a decoder and a child request"
+    final APIRequestEncoder encoder = new APIRequestEncoder()
+    final APIRequestDecoder decoder = new APIRequestDecoder()
+    final APIRequest request = new StaticAPIRequest([
+      "first": ["1"],
+      "child.second": ["2", "3"],
+      "child.third.fourth": ["4"]
+    ]).getRequest("child")
+
+    when: "we encode and decode it"
+    final APIRequest decoded = decoder.decode(ByteBuffer.wrap(encoder.encode(request)))
+
+    then: "we expect to read back its parameters with their name relative to the child request"
+    decoded == new StaticAPIRequest(["second": ["2", "3"], "third.fourth": ["4"]])
+    APIRequestContent.equals(request, decoded)
+  }
+
+  def "it writes the same records into an output stream" () {
+    given: "two encoders and a request"
+    final APIRequestEncoder arrays = new APIRequestEncoder()
+    final APIRequestEncoder streams = new APIRequestEncoder()
+    final APIRequest request = new StaticAPIRequest(["first": ["1", "2"], "second": ["3"]])
+    final ByteArrayOutputStream expected = new ByteArrayOutputStream()
+    final ByteArrayOutputStream output = new ByteArrayOutputStream()
+
+    when: "we encode the request twice with each encoder"
+    expected.write(arrays.encode(request))
+    expected.write(arrays.encode(request))
+    streams.encode(request, output)
+    streams.encode(request, output)
+
+    then: "we expect both encoders to produce the same bytes"
+    output.toByteArray() == expected.toByteArray()
+  }
+
+  def "it appends to an existing log" () {
+    given: "a log that was written and closed"
+    final Path path = Files.createTempFile("requests", ".log")
+    Files.delete(path)
+    final List<APIRequest> requests = (0..<20).collect({ final int index ->
+      new StaticAPIRequest(["name": [String.valueOf(index)], ("name" + (index % 3)): ["value"]])
+    })
+
+    final APIRequestLogWriter first = new APIRequestLogWriter(path)
+    requests.subList(0, 10).each({ final APIRequest request -> first.append(request) })
+    first.close()
+
+    when: "we reopen the log and append more requests"
+    final APIRequestLogWriter second = new APIRequestLogWriter(path)
+    requests.subList(10, 20).each({ final APIRequest request -> second.append(request) })
+    second.close()
+
+    then: "we expect to read all requests back in order"
+    read(path) == requests
+
+    cleanup:
+    Files.deleteIfExists(path)
+  }
+
+  def "it discards a truncated last record when a log is reopened" () {
+    given: "a log with a truncated last record"
+    final Path path = Files.createTempFile("requests", ".log")
+    Files.delete(path)
+    final APIRequest kept = new StaticAPIRequest(["first": ["1"]])
+    final APIRequest lost = new StaticAPIRequest(["second": ["a long enough value to be truncated"]])
+    final APIRequest appended = new StaticAPIRequest(["third": ["3"], "first": ["4"]])
+
+    final APIRequestLogWriter first = new APIRequestLogWriter(path)
+    first.append(kept)
+    first.append(lost)
+    first.close()
+
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)
+    channel.truncate(channel.size() - 5)
+    channel.close()
+
+    expect: "the reader to ignore the truncated record"
+    read(path) == [kept]
+
+    when: "we reopen the log and append a request"
+    final APIRequestLogWriter second = new APIRequestLogWriter(path)
+    second.append(appended)
+    second.close()
+
+    then: "we expect the truncated record to be replaced by the appended one"
+    read(path) == [kept, appended]
+
+    cleanup:
+    Files.deleteIfExists(path)
+  }
+
+  private static List<APIRequest> read (final Path path) {
+    final APIRequestLogReader reader = new APIRequestLogReader(path)
+
+    try {
+      return reader.collect({ final APIRequest request -> APIRequestContent.toImmutable(request) })
+    } finally {
+      reader.close()
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser
+
+import org.liara.request.APIRequest
+import org.liara.request.ParameterMapAPIRequest
+import org.liara.request.PersistentAPIRequest
+import org.liara.request.StaticAPIRequest
+import org.liara.request.codec.APIRequestDecoder
+import org.liara.request.codec.APIRequestEncoder
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.ByteBuffer
+
+class APIRequestParserGraphSpecification extends Specification
+{
+  private static final Map<String, List<String>> PARAMETERS = [
+    "a.x": ["1", "2", "3"],
+    "a.b.y": ["4"]
+  ]
+
+  private static APIRequest create (final String type) {
+    switch (type) {
+      case "static":
+        return new StaticAPIRequest(PARAMETERS)
+      case "parameter map":
+        return new ParameterMapAPIRequest(PARAMETERS.collectEntries({ final String name, final List<String> values ->
+          [(name): values as String[]]
+        }) as Map<String, String[]>)
+      case "persistent":
+        return PersistentAPIRequest.of(new StaticAPIRequest(PARAMETERS))
+      case "binary":
+        return new APIRequestDecoder().decode(
+          ByteBuffer.wrap(new APIRequestEncoder().encode(new StaticAPIRequest(PARAMETERS)))
+        )
+      default:
+        throw new IllegalArgumentException(type)
+    }
+  }
+
+  @Unroll
+  def "it evaluates a shared parser of a child request once per parse of a #type request" () {
+    given: "two parsers that share a field parser under the same child requests"
+    int calls = 0
+    final APIRequestFieldParser<Integer> integer = { final String field ->
+      calls += 1
+      return Integer.parseInt(field)
+    } as APIRequestFieldParser<Integer>
+
+    final APIRequestParserGraph.Builder builder = APIRequestParserGraph.builder()
+    final APIRequestParserGraph.Handle<List<Integer>> values = builder.add(
+      APIRequestParser.childRequest("a", APIRequestParser.field("x", integer))
+    )
+    final APIRequestParserGraph.Handle<Integer> count = builder.add(
+      APIRequestParser.childRequest("a", APIRequestParser.field("x", integer).map({ final List<Integer> list ->
+        list.size()
+      }))
+    )
+    final APIRequestParserGraph.Handle<List<Integer>> nested = builder.add(
+      APIRequestParser.childRequest("a", APIRequestParser.childRequest("b", APIRequestParser.field("y", integer)))
+    )
+    final APIRequestParserGraph.Handle<List<Integer>> flat = builder.add(
+      APIRequestParser.childRequest("a.b", APIRequestParser.field("y", integer))
+    )
+    final APIRequestParserGraph graph = builder.build()
+
+    when: "we parse a request with the graph"
+    final APIRequestParserGraph.Result result = graph.parse(create(type))
+
+    then: "we expect each value to be parsed once"
+    result.get(values) == [1, 2, 3]
+    result.get(count) == 3
+    result.get(nested) == [4]
+    result.get(flat) == [4]
+    calls == 4
+
+    where:
+    type << ["static", "parameter map", "persistent", "binary"]
+  }
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser
+
+import org.liara.request.APIRequest
+import org.liara.request.StaticAPIRequest
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+
+class AsyncAPIRequestParserSpecification extends Specification
+{
+  def "it resolves the values of a field against an in-memory store" () {
+    given: "a parser that resolve identifiers with an asynchronous store"
+    final Map<String, String> store = ["1": "first", "2": "second"]
+    final List<CompletableFuture<String>> pending = []
+    final List<String> queried = []
+    final AsyncAPIRequestFieldParser<String> resolve = { final String field ->
+      final CompletableFuture<String> result = new CompletableFuture<>()
+      pending.add(result)
+      queried.add(field)
+      return result
+    } as AsyncAPIRequestFieldParser<String>
+
+    final AsyncAPIRequestParser<List<String>> parser = AsyncAPIRequestParser.childRequest(
+      "filter", AsyncAPIRequestParser.field("ids", resolve)
+    ).orElse([])
+
+    when: "we parse a request before the store answers"
+    final CompletableFuture<List<String>> names = parser.parse(
+      new StaticAPIRequest(["filter.ids": ["2", "3", "1"]])
+    ).toCompletableFuture()
+
+    then: "we expect the parse to be pending"
+    !names.isDone()
+
+    when: "the store answers"
+    pending.eachWithIndex({ final CompletableFuture<String> lookup, final int index ->
+      lookup.complete(store.get(queried[index]))
+    })
+
+    then: "we expect the known identifiers to be resolved in order"
+    names.join() == ["second", "first"]
+  }
+
+  def "it returns the default value when no value can be resolved" () {
+    given: "a lifted parser with a default value"
+    final AsyncAPIRequestParser<Integer> parser = AsyncAPIRequestParser.of(
+      APIRequestParser.field("ids", { final String field -> null } as APIRequestFieldParser<Integer>)
+    ).map({ final List<Integer> ids -> ids == null ? null : ids.size() }).orElse(0)
+
+    expect: "the default value to be returned"
+    parser.parse(new StaticAPIRequest(["ids": ["1"]])).toCompletableFuture().join() == 0
+  }
+
+  def "it completes exceptionally when a lifted parser throws" () {
+    given: "a lifted parser that throws next to a lifted field parser"
+    final AsyncAPIRequestParser<List<Integer>> parser = AsyncAPIRequestParser.all(
+      AsyncAPIRequestParser.of({ final APIRequest request ->
+        throw new IllegalStateException("unavailable")
+      } as APIRequestParser<Integer>),
+      AsyncAPIRequestParser.field("ids", AsyncAPIRequestFieldParser.of({ final String field ->
+        Integer.parseInt(field)
+      } as APIRequestFieldParser<Integer>)).map({ final List<Integer> ids -> ids.size() })
+    )
+
+    when: "we parse a request"
+    final CompletableFuture<List<Integer>> stage = parser.parse(
+      new StaticAPIRequest(["ids": ["1"]])
+    ).toCompletableFuture()
+
+    then: "we expect a failed parse instead of an exception"
+    stage.isCompletedExceptionally()
+    failure(stage) instanceof IllegalStateException
+  }
+
+  private static Throwable failure (final CompletableFuture<?> stage) {
+    try {
+      stage.join()
+      return null
+    } catch (final CompletionException exception) {
+      return exception.getCause()
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser
+
+import org.liara.request.APIRequest
+import org.liara.request.StaticAPIRequest
+import spock.lang.Specification
+
+import java.time.Duration
+
+class CachedAPIRequestParserSpecification extends Specification
+{
+  def "it parses the request of the caller when an output is not cached" () {
+    given: "a cached parser and a child request"
+    final List<APIRequest> parsed = []
+    final CachedAPIRequestParser<String> parser = APIRequestParser.cached({ final APIRequest request ->
+      parsed.add(request)
+      return request.getParameter("x").get(0).orElse(null)
+    } as APIRequestParser<String>, 16, Duration.ofMinutes(1))
+    final APIRequest request = new StaticAPIRequest(["a.x": ["1"]]).getRequest("a")
+
+    when: "we parse the child request twice"
+    final String first = parser.parse(request)
+    final String second = parser.parse(request)
+
+    then: "we expect the parser to be called once with the request of the caller"
+    first == "1"
+    second == "1"
+    parsed.size() == 1
+    parsed[0].is(request)
+  }
+}
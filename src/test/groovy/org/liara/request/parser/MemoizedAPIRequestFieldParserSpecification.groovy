@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.parser
+
+import spock.lang.Specification
+
+class MemoizedAPIRequestFieldParserSpecification extends Specification
+{
+  def "it returns the cached output of a field that was already parsed" () {
+    given: "a memoized parser that count its calls"
+    int calls = 0
+    final MemoizedAPIRequestFieldParser<Integer> parser = APIRequestFieldParser.memoize({ final String field ->
+      calls += 1
+      return Integer.parseInt(field)
+    } as APIRequestFieldParser<Integer>, 16)
+
+    when: "we parse the same field twice"
+    final Integer first = parser.parse("42")
+    final Integer second = parser.parse("42")
+
+    then: "we expect the memoized parser to be called once"
+    first == 42
+    second == 42
+    calls == 1
+  }
+
+  def "it propagates the exceptions of the memoized parser unchanged" () {
+    given: "a memoized parser that throws on invalid fields"
+    final MemoizedAPIRequestFieldParser<Integer> parser = APIRequestFieldParser.memoize({ final String field ->
+      Integer.parseInt(field)
+    } as APIRequestFieldParser<Integer>, 16)
+
+    when: "we parse an invalid field"
+    parser.parse("not a number")
+
+    then: "we expect the exception of the memoized parser"
+    thrown(NumberFormatException)
+  }
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator
+
+import org.liara.request.APIRequest
+import org.liara.request.StaticAPIRequest
+import org.liara.request.validator.error.APIRequestParameterValueError
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CompletionStage
+
+class AsyncAPIRequestValidatorSpecification extends Specification
+{
+  /**
+   * An in-memory stand-in for a remote store of identifiers, whose lookups complete only when answered.
+   */
+  private static final class InMemoryStore
+  {
+    final Set<String> identifiers
+    final List<CompletableFuture<Boolean>> pending = []
+    final List<String> queried = []
+
+    InMemoryStore (final Collection<String> identifiers) {
+      this.identifiers = new HashSet<>(identifiers)
+    }
+
+    CompletionStage<Boolean> contains (final String identifier) {
+      final CompletableFuture<Boolean> result = new CompletableFuture<>()
+      pending.add(result)
+      queried.add(identifier)
+      return result
+    }
+
+    void answer () {
+      pending.eachWithIndex({ final CompletableFuture<Boolean> lookup, final int index ->
+        lookup.complete(identifiers.contains(queried[index]))
+      })
+    }
+
+    AsyncAPIRequestFieldValidator validator () {
+      return { final String field ->
+        contains(field).thenApply({ final Boolean found ->
+          found ? APIRequestFieldValidation.valid() : APIRequestFieldValidation.invalid("unknown identifier")
+        })
+      } as AsyncAPIRequestFieldValidator
+    }
+  }
+
+  def "it does not block while the store has not answered" () {
+    given: "a validator that check identifiers against a store"
+    final InMemoryStore store = new InMemoryStore(["1", "2"])
+    final AsyncAPIRequestValidator validator = AsyncAPIRequestValidator.field("ids", store.validator())
+
+    when: "we validate a request before the store answers"
+    final CompletableFuture<APIRequestValidation> validation = validator.validate(
+      new StaticAPIRequest(["ids": ["1", "3"]])
+    ).toCompletableFuture()
+
+    then: "we expect the validation to be pending while all lookups are started"
+    !validation.isDone()
+    store.queried == ["1", "3"]
+
+    when: "the store answers"
+    store.answer()
+
+    then: "we expect the validation to complete"
+    validation.isDone()
+    validation.join().getErrors().size() == 1
+  }
+
+  def "it merges the errors of asynchronous and lifted validators" () {
+    given: "a composed validator that mixes a store lookup and a synchronous validator"
+    final InMemoryStore store = new InMemoryStore(["1", "2"])
+    final AsyncAPIRequestValidator validator = AsyncAPIRequestValidator.all(
+      AsyncAPIRequestValidator.childRequest("filter", AsyncAPIRequestValidator.field("ids", store.validator())),
+      AsyncAPIRequestValidator.of(APIRequestValidator.field("limit", { final String field ->
+        field.isInteger() ? APIRequestFieldValidation.valid() : APIRequestFieldValidation.invalid("not an integer")
+      } as APIRequestFieldValidator))
+    )
+    final APIRequest request = new StaticAPIRequest(["filter.ids": ["1", "3", "2", "4"], "limit": ["many"]])
+
+    when: "we validate a request and the store answers"
+    final CompletableFuture<APIRequestValidation> stage = validator.validate(request).toCompletableFuture()
+    store.answer()
+    final APIRequestValidation validation = stage.join()
+
+    then: "we expect the errors of both validators"
+    validation.getErrors().size() == 3
+    validation.getErrors().collect({ final APIRequestParameterValueError error ->
+      error.getInvalidValue()
+    }).toSet() == ["3", "4", "many"].toSet()
+  }
+
+  def "it completes exceptionally when a lifted validator throws" () {
+    given: "a composed validator that mixes a store lookup and a throwing synchronous validator"
+    final InMemoryStore store = new InMemoryStore(["1"])
+    final AsyncAPIRequestValidator validator = AsyncAPIRequestValidator.all(
+      AsyncAPIRequestValidator.of({ final APIRequest request ->
+        throw new IllegalStateException("unavailable")
+      } as APIRequestValidator),
+      AsyncAPIRequestValidator.field("ids", store.validator())
+    )
+
+    when: "we validate a request and the store answers"
+    final CompletableFuture<APIRequestValidation> stage = validator.validate(
+      new StaticAPIRequest(["ids": ["1", "3"]])
+    ).toCompletableFuture()
+    store.answer()
+
+    then: "we expect the other validators to be started and the validation to fail with the exception"
+    store.queried == ["1", "3"]
+    stage.isCompletedExceptionally()
+    failure(stage) instanceof IllegalStateException
+  }
+
+  def "it completes exceptionally when a lifted field validator throws" () {
+    given: "a lifted field validator that throws"
+    final AsyncAPIRequestValidator validator = AsyncAPIRequestValidator.field(
+      "ids", AsyncAPIRequestFieldValidator.of({ final String field ->
+        throw new IllegalArgumentException(field)
+      } as APIRequestFieldValidator)
+    )
+
+    when: "we validate a request"
+    final CompletableFuture<APIRequestValidation> stage = validator.validate(
+      new StaticAPIRequest(["ids": ["1"]])
+    ).toCompletableFuture()
+
+    then: "we expect a failed validation instead of an exception"
+    stage.isCompletedExceptionally()
+    failure(stage) instanceof IllegalArgumentException
+  }
+
+  private static Throwable failure (final CompletableFuture<?> stage) {
+    try {
+      stage.join()
+      return null
+    } catch (final CompletionException exception) {
+      return exception.getCause()
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (C) 2018 Cedric DEMONGIVERT <cedric.demongivert@gmail.com>
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ ******************************************************************************/
+package org.liara.request.validator
+
+import org.liara.request.APIRequest
+import org.liara.request.StaticAPIRequest
+import org.liara.request.validator.error.APIRequestParameterValueError
+import spock.lang.Specification
+
+import java.time.Duration
+
+class CachedAPIRequestValidatorSpecification extends Specification
+{
+  private static APIRequestValidator integers (final String name) {
+    return APIRequestValidator.field(name, { final String field ->
+      field.isInteger() ? APIRequestFieldValidation.valid() : APIRequestFieldValidation.invalid("not an integer")
+    } as APIRequestFieldValidator)
+  }
+
+  private static String json (final APIRequestValidation validation) {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream()
+    new APIRequestValidationWriter().write(validation, output)
+    return output.toString("UTF-8")
+  }
+
+  def "it validates the request of the caller when a validation is not cached" () {
+    given: "a cached validator and a child request"
+    final CachedAPIRequestValidator validator = APIRequestValidator.cached(
+      integers("x"), 16, Duration.ofMinutes(1)
+    )
+    final APIRequest request = new StaticAPIRequest(["a.x": ["1", "y"]]).getRequest("a")
+
+    when: "we validate the child request"
+    final APIRequestValidation validation = validator.validate(request)
+
+    then: "we expect its errors and their serialization to be the same as without any cache"
+    validation.getErrors().collect({ final APIRequestParameterValueError error -> error.getInvalidParameterName() }) == ["a.x"]
+    json(validation) == json(integers("x").validate(request))
+  }
+
+  def "it returns a copy of the cached validation for a request with the same content" () {
+    given: "a cached validator that was already called once"
+    final CachedAPIRequestValidator validator = APIRequestValidator.cached(
+      integers("x"), 16, Duration.ofMinutes(1)
+    )
+    final APIRequestValidation first = validator.validate(new StaticAPIRequest(["x": ["y"]]))
+
+    when: "we validate another request with the same content"
+    final APIRequestValidation second = validator.validate(new StaticAPIRequest(["x": ["y"]]))
+
+    then: "we expect the cached validation to be used"
+    validator.getStatistics().hitCount() == 1
+    second.getErrors() == first.getErrors()
+    !second.is(first)
+  }
+}